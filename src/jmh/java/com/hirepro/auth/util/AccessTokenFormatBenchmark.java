@@ -0,0 +1,53 @@
+package com.hirepro.auth.util;
+
+import com.hirepro.auth.enums.AccessTokenFormat;
+import com.hirepro.auth.security.TokenPrincipal;
+import com.hirepro.common.util.UlidGenerator;
+import com.hirepro.users.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verify-and-parse time of the standard and compact access-token profiles; the encoded size of
+ * each sample token is printed at setup. AccessTokenFormatTest covers size and parse equivalence.
+ * Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="AccessTokenFormatBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessTokenFormatBenchmark {
+
+    @Param({"STANDARD", "COMPACT"})
+    public AccessTokenFormat format;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = JwtBenchmarkSupport.jwtUtil(JwtBenchmarkSupport.hmacKeyRing(), format);
+        token = jwtUtil.generateAccessToken(UlidGenerator.generate(), JwtBenchmarkSupport.SAMPLE_EMAIL,
+                UserRole.SR_RECRUITER.name(), UlidGenerator.generate());
+        System.out.printf("%n%s access token: %d bytes%n", format, token.getBytes(StandardCharsets.US_ASCII).length);
+    }
+
+    @Benchmark
+    public TokenPrincipal parse() {
+        return jwtUtil.parseVerifiedToken(token);
+    }
+}
@@ -0,0 +1,32 @@
+package com.hirepro.auth.util;
+
+import com.hirepro.auth.enums.AccessTokenFormat;
+import com.hirepro.roles.service.RolePermissionRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Builds JwtUtil outside Spring with the same settings as application.yaml
+ */
+final class JwtBenchmarkSupport {
+
+    static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    static final String SAMPLE_EMAIL = "firstname.lastname@example-client.com";
+
+    private JwtBenchmarkSupport() {
+    }
+
+    static JwtKeyRing hmacKeyRing() {
+        return new JwtKeyRing(SECRET, "primary", "", "HMAC", "signing-key", "", "", "", false);
+    }
+
+    static JwtUtil jwtUtil(JwtKeyRing keyRing, AccessTokenFormat format) {
+        JwtUtil jwtUtil = new JwtUtil(keyRing, mock(RolePermissionRegistry.class));
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 900_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 604_800_000L);
+        ReflectionTestUtils.setField(jwtUtil, "issuer", "hirepro-service");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenFormat", format);
+        return jwtUtil;
+    }
+}
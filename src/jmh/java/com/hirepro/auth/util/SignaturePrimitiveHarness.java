@@ -0,0 +1,87 @@
+package com.hirepro.auth.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+
+/**
+ * JCA-only timing of the primitives behind each jwt.signing-algorithm: HmacSHA256, Ed25519 and
+ * SHA256withECDSA on P-256, over a payload the size of a standard access token's signing input.
+ * It has no dependencies, so it runs where the JMH profile cannot be built:
+ * {@code java src/jmh/java/com/hirepro/auth/util/SignaturePrimitiveHarness.java}.
+ * {@link SigningAlgorithmBenchmark} measures the full JwtUtil path.
+ */
+public final class SignaturePrimitiveHarness {
+
+    private static final int PAYLOAD_BYTES = 330;
+    private static final int ROUNDS = 4;
+    private static final int HMAC_OPS = 300_000;
+    private static final int SIGNATURE_OPS = 5_000;
+
+    private SignaturePrimitiveHarness() {
+    }
+
+    public static void main(String[] args) throws GeneralSecurityException {
+        byte[] payload = new byte[PAYLOAD_BYTES];
+        new SecureRandom().nextBytes(payload);
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(new byte[32], "HmacSHA256"));
+        KeyPair ed25519 = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        KeyPairGenerator ecGenerator = KeyPairGenerator.getInstance("EC");
+        ecGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair p256 = ecGenerator.generateKeyPair();
+
+        // Earlier rounds are warm-up; only the last one is printed
+        for (int round = 1; round <= ROUNDS; round++) {
+            boolean report = round == ROUNDS;
+
+            long start = System.nanoTime();
+            for (int i = 0; i < HMAC_OPS; i++) {
+                payload[0] = (byte) i;
+                mac.doFinal(payload);
+            }
+            print(report, "HMAC sign = verify", HMAC_OPS, start);
+
+            measureSignature(report, "Ed25519", ed25519, payload);
+            measureSignature(report, "SHA256withECDSA", p256, payload);
+        }
+    }
+
+    private static void measureSignature(boolean report, String algorithm, KeyPair keyPair, byte[] payload)
+            throws GeneralSecurityException {
+        Signature signer = Signature.getInstance(algorithm);
+        Signature verifier = Signature.getInstance(algorithm);
+        byte[] signature = null;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SIGNATURE_OPS; i++) {
+            signer.initSign(keyPair.getPrivate());
+            signer.update(payload);
+            signature = signer.sign();
+        }
+        print(report, algorithm + " sign", SIGNATURE_OPS, start);
+
+        start = System.nanoTime();
+        for (int i = 0; i < SIGNATURE_OPS; i++) {
+            verifier.initVerify(keyPair.getPublic());
+            verifier.update(payload);
+            if (!verifier.verify(signature)) {
+                throw new IllegalStateException(algorithm + " signature did not verify");
+            }
+        }
+        print(report, algorithm + " verify", SIGNATURE_OPS, start);
+    }
+
+    private static void print(boolean report, String name, int ops, long startNanos) {
+        if (report) {
+            double micros = (System.nanoTime() - startNanos) / 1000.0 / ops;
+            System.out.printf("%-24s %10.2f us/op %12.0f ops/s%n", name, micros, 1_000_000 / micros);
+        }
+    }
+}
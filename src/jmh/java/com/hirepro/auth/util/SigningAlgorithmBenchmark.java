@@ -0,0 +1,62 @@
+package com.hirepro.auth.util;
+
+import com.hirepro.auth.enums.AccessTokenFormat;
+import com.hirepro.auth.security.TokenPrincipal;
+import com.hirepro.common.util.UlidGenerator;
+import com.hirepro.users.enums.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access-token sign and verify throughput for each jwt.signing-algorithm, through JwtUtil and
+ * the key ring as configured in production (the asymmetric pairs are generated per run).
+ * Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="SigningAlgorithmBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"HMAC", "EdDSA", "ES256"})
+    public String algorithm;
+
+    private JwtUtil jwtUtil;
+    private String userId;
+    private String clientId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing keyRing = new JwtKeyRing(JwtBenchmarkSupport.SECRET, "primary", "", algorithm,
+                "signing-key", "", "", "", true);
+        jwtUtil = JwtBenchmarkSupport.jwtUtil(keyRing, AccessTokenFormat.STANDARD);
+        userId = UlidGenerator.generate();
+        clientId = UlidGenerator.generate();
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.generateAccessToken(userId, JwtBenchmarkSupport.SAMPLE_EMAIL,
+                UserRole.SR_RECRUITER.name(), clientId);
+    }
+
+    @Benchmark
+    public TokenPrincipal verify() {
+        return jwtUtil.parseVerifiedToken(token);
+    }
+}
@@ -0,0 +1,94 @@
+package com.hirepro.auth.util;
+
+import com.hirepro.auth.enums.AccessTokenFormat;
+import com.hirepro.auth.security.TokenPrincipal;
+import com.hirepro.common.util.UlidGenerator;
+import com.hirepro.users.enums.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification cost per request in JwtAuthenticationFilter.
+ * {@code legacyFourParses} reproduces the filter before the verified-claims path: extractUsername,
+ * validateToken (two more parses) and extractRole, each deriving the HMAC key and building a parser
+ * as the old JwtUtil did. {@code sharedParserFourParses} makes the same four calls on the current
+ * JwtUtil, isolating the key ring's share of the gain. {@code singleParse} is a cache miss and
+ * {@code cachedVerify} a repeat request with the same token, the common case on busy read endpoints.
+ * Sample mode reports the p99 per operation; run with
+ * {@code mvn -Pjmh test-compile exec:exec -Djmh.args="VerifiedTokenBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class VerifiedTokenBenchmark {
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = JwtBenchmarkSupport.jwtUtil(JwtBenchmarkSupport.hmacKeyRing(), AccessTokenFormat.STANDARD);
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, 10_000);
+        token = jwtUtil.generateAccessToken(UlidGenerator.generate(), JwtBenchmarkSupport.SAMPLE_EMAIL,
+                UserRole.SR_RECRUITER.name(), UlidGenerator.generate());
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole blackhole) {
+        String username = legacyClaims(token).getSubject();
+        // validateToken: extractUsername, then isTokenExpired
+        blackhole.consume(legacyClaims(token).getSubject().equals(username)
+                && !legacyClaims(token).getExpiration().before(new Date()));
+        blackhole.consume(legacyClaims(token).get("role", String.class));
+    }
+
+    @Benchmark
+    public void sharedParserFourParses(Blackhole blackhole) {
+        String username = jwtUtil.extractUsername(token);
+        blackhole.consume(jwtUtil.validateToken(token, username));
+        blackhole.consume(jwtUtil.extractRole(token));
+    }
+
+    /**
+     * The old JwtUtil.extractAllClaims: key derivation and parser construction on every call
+     */
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(JwtBenchmarkSupport.SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public TokenPrincipal singleParse() {
+        return jwtUtil.parseVerifiedToken(token);
+    }
+
+    @Benchmark
+    public TokenPrincipal cachedVerify() {
+        return verifiedTokenCache.verify(token);
+    }
+}
@@ -0,0 +1,136 @@
+package com.hirepro.config;
+
+import com.hirepro.auth.security.RouteAuthorizationTable;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.access.intercept.RequestMatcherDelegatingAuthorizationManager;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * URL authorization cost per request: the ordered matcher list the main chain used before
+ * (rebuilt here from the previous SecurityConfig rules) against {@link SecurityConfig#routeAuthorizationTable()}.
+ * Each invocation checks six representative authenticated-chain requests; results are per request.
+ * Run with {@code mvn -Pjmh test-compile exec:exec -Djmh.args="RouteAuthorizationBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteAuthorizationBenchmark {
+
+    private static final int REQUESTS = 6;
+    private static final Supplier<Authentication> SUPERADMIN = () -> UsernamePasswordAuthenticationToken.authenticated(
+            "admin@example.com", null, AuthorityUtils.createAuthorityList("ROLE_SUPERADMIN"));
+
+    private AuthorizationManager<HttpServletRequest> matcherList;
+    private RouteAuthorizationTable routeTable;
+    private MockHttpServletRequest[] requests;
+    private RequestAuthorizationContext[] contexts;
+
+    @Setup
+    public void setUp() {
+        matcherList = previousMatcherList();
+        routeTable = SecurityConfig.routeAuthorizationTable();
+        requests = new MockHttpServletRequest[]{
+                request("GET", "/clients"),
+                request("GET", "/users/01HZX3V9K2M4N6P8Q0R2S4T6V8"),
+                request("PUT", "/users/me"),
+                request("DELETE", "/users/01HZX3V9K2M4N6P8Q0R2S4T6V8"),
+                request("GET", "/permissions"),
+                request("GET", "/reports/monthly/2024")
+        };
+        contexts = new RequestAuthorizationContext[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            contexts[i] = new RequestAuthorizationContext(requests[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void orderedMatcherList(Blackhole blackhole) {
+        for (MockHttpServletRequest request : requests) {
+            blackhole.consume(matcherList.check(SUPERADMIN, request));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void compiledRouteTable(Blackhole blackhole) {
+        for (RequestAuthorizationContext context : contexts) {
+            blackhole.consume(routeTable.check(SUPERADMIN, context));
+        }
+    }
+
+    /**
+     * The rules of the single chain before user-016, in their original order
+     */
+    private static AuthorizationManager<HttpServletRequest> previousMatcherList() {
+        AuthorizationManager<RequestAuthorizationContext> permitAll = (authentication, context) ->
+                new AuthorizationDecision(true);
+        AuthorizationManager<RequestAuthorizationContext> authenticated = AuthenticatedAuthorizationManager.authenticated();
+        AuthorizationManager<RequestAuthorizationContext> superadmin = AuthorityAuthorizationManager.hasRole("SUPERADMIN");
+        AuthorizationManager<RequestAuthorizationContext> admins =
+                AuthorityAuthorizationManager.hasAnyRole("SUPERADMIN", "CLIENT_ADMIN");
+
+        RequestMatcherDelegatingAuthorizationManager.Builder builder = RequestMatcherDelegatingAuthorizationManager.builder()
+                .add(ant(HttpMethod.OPTIONS, "/**"), permitAll);
+        for (String pattern : new String[]{"/auth/login", "/auth/register", "/auth/refresh-token", "/auth/logout",
+                "/public/**", "/error", "/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html",
+                "/swagger-resources/**", "/webjars/**", "/actuator/health", "/actuator/info"}) {
+            builder.add(ant(null, pattern), permitAll);
+        }
+        return builder
+                .add(ant(null, "/actuator/**"), superadmin)
+                .add(ant(null, "/clients/**"), superadmin)
+                .add(ant(HttpMethod.GET, "/users"), superadmin)
+                .add(ant(HttpMethod.POST, "/users"), admins)
+                .add(ant(HttpMethod.GET, "/users/client/**"), admins)
+                .add(ant(HttpMethod.GET, "/users/{id}"), admins)
+                .add(ant(HttpMethod.PUT, "/users/me"), authenticated)
+                .add(ant(HttpMethod.PUT, "/users/**"), admins)
+                .add(ant(HttpMethod.DELETE, "/users/**"), admins)
+                .add(ant(null, "/roles/**"), superadmin)
+                .add(ant(null, "/permissions/**"), superadmin)
+                .add(ant(null, "/reports/**"), admins)
+                .add(ant(null, "/debug/**"), authenticated)
+                .add(request -> true, authenticated)
+                .build();
+    }
+
+    private static AntPathRequestMatcher ant(HttpMethod method, String pattern) {
+        return new AntPathRequestMatcher(pattern, method != null ? method.name() : null);
+    }
+
+    private static MockHttpServletRequest request(String method, String servletPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api" + servletPath);
+        request.setContextPath("/api");
+        request.setServletPath(servletPath);
+        return request;
+    }
+}
@@ -4,9 +4,12 @@ import com.hirepro.auth.dto.AuthResponse;
 import com.hirepro.auth.dto.LoginRequest;
 import com.hirepro.auth.dto.RefreshTokenRequest;
 import com.hirepro.auth.dto.RegisterRequest;
+import com.hirepro.auth.security.LoginRateLimiter;
+import com.hirepro.auth.security.TokenPrincipal;
 import com.hirepro.auth.service.AuthService;
 import com.hirepro.auth.util.CookieUtil;
 import com.hirepro.auth.util.JwtUtil;
+import com.hirepro.common.exception.UnauthorizedException;
 import com.hirepro.common.response.ApiResponse;
 import com.hirepro.users.dto.AuthUserResponse;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,8 +17,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -25,19 +27,31 @@ public class AuthController {
     private final AuthService authService;
     private final CookieUtil cookieUtil;
     private final JwtUtil jwtUtil;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public AuthController(AuthService authService, CookieUtil cookieUtil, JwtUtil jwtUtil) {
+    public AuthController(AuthService authService, CookieUtil cookieUtil, JwtUtil jwtUtil,
+                          LoginRateLimiter loginRateLimiter) {
         this.authService = authService;
         this.cookieUtil = cookieUtil;
         this.jwtUtil = jwtUtil;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<AuthResponse>> login(
             @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest,
             HttpServletResponse response) {
 
-        AuthResponse authResponse = authService.login(request);
+        // Rejected before the password is hashed or the user is loaded
+        loginRateLimiter.checkLogin(httpRequest.getRemoteAddr(), request.getUsername());
+        AuthResponse authResponse;
+        try {
+            authResponse = authService.login(request);
+        } catch (UnauthorizedException e) {
+            loginRateLimiter.recordLoginFailure(httpRequest.getRemoteAddr(), request.getUsername());
+            throw e;
+        }
 
         // Set tokens in HTTP-only cookies
         cookieUtil.createAccessTokenCookie(response, authResponse.getAccessToken(),
@@ -54,7 +68,11 @@ public class AuthController {
     }
 
     @PostMapping("/register")
-    public ResponseEntity<ApiResponse<AuthUserResponse>> register(@Valid @RequestBody RegisterRequest request) {
+    public ResponseEntity<ApiResponse<AuthUserResponse>> register(
+            @Valid @RequestBody RegisterRequest request,
+            HttpServletRequest httpRequest) {
+
+        loginRateLimiter.checkRegister(httpRequest.getRemoteAddr());
         AuthUserResponse userResponse = authService.register(request);
         ApiResponse<AuthUserResponse> response = ApiResponse.success("User registered successfully", userResponse);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
@@ -89,7 +107,13 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(HttpServletResponse response) {
+    public ResponseEntity<ApiResponse<Void>> logout(HttpServletRequest request, HttpServletResponse response) {
+        String accessToken = cookieUtil.getAccessTokenFromCookie(request).orElseGet(() -> {
+            String authHeader = request.getHeader("Authorization");
+            return authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+        });
+        authService.logout(accessToken, cookieUtil.getRefreshTokenFromCookie(request).orElse(null));
+
         // Clear cookies
         cookieUtil.clearAccessTokenCookie(response);
         cookieUtil.clearRefreshTokenCookie(response);
@@ -99,10 +123,9 @@ public class AuthController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<ApiResponse<AuthUserResponse>> getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        AuthUserResponse userResponse = authService.getCurrentUser(username);
+    public ResponseEntity<ApiResponse<AuthUserResponse>> getCurrentUser(
+            @AuthenticationPrincipal TokenPrincipal principal) {
+        AuthUserResponse userResponse = authService.getCurrentUser(principal);
         ApiResponse<AuthUserResponse> response = ApiResponse.success("User details retrieved successfully", userResponse);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
@@ -0,0 +1,35 @@
+package com.hirepro.auth.controller;
+
+import com.hirepro.auth.util.JwtKeyRing;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the token verification keys as a standard JWKS document so other services
+ * can verify access tokens locally. The document is built once at startup and is
+ * returned as-is (not wrapped in ApiResponse) because JWKS consumers expect the RFC 7517 shape.
+ */
+@RestController
+@RequestMapping("/public/.well-known")
+public class JwksController {
+
+    private final Map<String, Object> jwks;
+
+    public JwksController(JwtKeyRing keyRing) {
+        this.jwks = Map.of("keys", keyRing.getPublicJwks());
+    }
+
+    @GetMapping(value = "/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic())
+                .body(jwks);
+    }
+}
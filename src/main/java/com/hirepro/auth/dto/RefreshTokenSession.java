@@ -0,0 +1,47 @@
+package com.hirepro.auth.dto;
+
+/**
+ * Refresh token row joined with its owner, loaded in a single query during rotation
+ */
+public class RefreshTokenSession {
+
+    private final Long tokenId;
+    private final String userId;
+    private final String email;
+    private final String role;
+    private final String status;
+    private final String clientId;
+
+    public RefreshTokenSession(Long tokenId, String userId, String email, String role, String status, String clientId) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.status = status;
+        this.clientId = clientId;
+    }
+
+    public Long getTokenId() {
+        return tokenId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+}
@@ -18,8 +18,9 @@ public class RefreshToken {
     @Column(name = "user_id", nullable = false, length = 26)
     private String userId;
 
-    @Column(name = "token", nullable = false, unique = true, length = 500)
-    private String token;
+    // SHA-256 of the refresh token; the token itself is never stored
+    @Column(name = "token_hash", nullable = false, unique = true, columnDefinition = "BINARY(32)")
+    private byte[] tokenHash;
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
@@ -35,9 +36,9 @@ public class RefreshToken {
     public RefreshToken() {
     }
 
-    public RefreshToken(String userId, String token, LocalDateTime expiresAt) {
+    public RefreshToken(String userId, byte[] tokenHash, LocalDateTime expiresAt) {
         this.userId = userId;
-        this.token = token;
+        this.tokenHash = tokenHash;
         this.expiresAt = expiresAt;
         this.revoked = false;
     }
@@ -59,12 +60,12 @@ public class RefreshToken {
         this.userId = userId;
     }
 
-    public String getToken() {
-        return token;
+    public byte[] getTokenHash() {
+        return tokenHash;
     }
 
-    public void setToken(String token) {
-        this.token = token;
+    public void setTokenHash(byte[] tokenHash) {
+        this.tokenHash = tokenHash;
     }
 
     public LocalDateTime getExpiresAt() {
@@ -0,0 +1,6 @@
+package com.hirepro.auth.enums;
+
+public enum RefreshTokenFormat {
+    JWT,
+    OPAQUE
+}
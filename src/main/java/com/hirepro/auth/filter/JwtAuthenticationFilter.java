@@ -1,7 +1,12 @@
 package com.hirepro.auth.filter;
 
+import com.hirepro.auth.security.AccountStatusRegistry;
+import com.hirepro.auth.security.SlidingTokenRenewer;
+import com.hirepro.auth.security.TokenPrincipal;
+import com.hirepro.auth.security.TokenRevocationList;
 import com.hirepro.auth.util.CookieUtil;
-import com.hirepro.auth.util.JwtUtil;
+import com.hirepro.auth.util.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,11 +28,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
-    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final AccountStatusRegistry accountStatusRegistry;
+    private final SlidingTokenRenewer slidingTokenRenewer;
     private final CookieUtil cookieUtil;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, CookieUtil cookieUtil) {
-        this.jwtUtil = jwtUtil;
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache,
+                                   TokenRevocationList tokenRevocationList,
+                                   AccountStatusRegistry accountStatusRegistry,
+                                   SlidingTokenRenewer slidingTokenRenewer,
+                                   CookieUtil cookieUtil) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.accountStatusRegistry = accountStatusRegistry;
+        this.slidingTokenRenewer = slidingTokenRenewer;
         this.cookieUtil = cookieUtil;
     }
 
@@ -40,11 +55,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             String token = null;
+            boolean fromCookie = false;
 
             // 1. Try cookie first
             var cookieToken = cookieUtil.getAccessTokenFromCookie(request);
             if (cookieToken.isPresent()) {
                 token = cookieToken.get();
+                fromCookie = true;
                 log.debug("Token source: cookie");
             } else {
                 // 2. Fallback: Authorization header
@@ -61,36 +78,55 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            String username = jwtUtil.extractUsername(token);
-            log.debug("Token username: {}", username);
-
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtUtil.validateToken(token, username)) {
-                    String role = jwtUtil.extractRole(token);
-                    log.debug("Token role claim: {}", role);
-
-                    // ✅ Guard against double ROLE_ prefix
-                    // JWT stores "SUPERADMIN" → authority = "ROLE_SUPERADMIN" ✓
-                    // JWT stores "ROLE_SUPERADMIN" → authority = "ROLE_SUPERADMIN" ✓ (not ROLE_ROLE_SUPERADMIN)
-                    String authorityName = role.startsWith("ROLE_") ? role : "ROLE_" + role;
-                    log.debug("Setting authority: {}", authorityName);
-
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(
-                                    username,
-                                    null,
-                                    Collections.singletonList(new SimpleGrantedAuthority(authorityName))
-                            );
-
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-
-                    log.debug("Auth set for user: {} with authorities: {}", username, authToken.getAuthorities());
-                } else {
-                    log.warn("Token validation failed for username: {}", username);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                // Signature, expiry and claims are checked once; repeat requests with the same token hit the cache
+                TokenPrincipal principal = verifiedTokenCache.verify(token);
+                if (tokenRevocationList.isRevoked(principal)) {
+                    log.debug("Rejected revoked token for user: {}", principal.getUsername());
+                    filterChain.doFilter(request, response);
+                    return;
                 }
+                if (accountStatusRegistry.isDisabled(principal.getUserId())) {
+                    log.debug("Rejected token of disabled account: {}", principal.getUsername());
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                // Cookie sessions get a fresh token shortly before expiry, saving a refresh round-trip
+                if (fromCookie) {
+                    String renewedToken = slidingTokenRenewer.renewIfNeeded(principal);
+                    if (renewedToken != null) {
+                        cookieUtil.createAccessTokenCookie(response, renewedToken,
+                                slidingTokenRenewer.getCookieMaxAgeSeconds());
+                        log.debug("Access token renewed for user: {}", principal.getUsername());
+                    }
+                }
+
+                String username = principal.getUsername();
+                String role = principal.getRole();
+                log.debug("Token username: {}, role claim: {}", username, role);
+
+                // ✅ Guard against double ROLE_ prefix
+                // JWT stores "SUPERADMIN" → authority = "ROLE_SUPERADMIN" ✓
+                // JWT stores "ROLE_SUPERADMIN" → authority = "ROLE_SUPERADMIN" ✓ (not ROLE_ROLE_SUPERADMIN)
+                String authorityName = role.startsWith("ROLE_") ? role : "ROLE_" + role;
+                log.debug("Setting authority: {}", authorityName);
+
+                UsernamePasswordAuthenticationToken authToken =
+                        new UsernamePasswordAuthenticationToken(
+                                principal,
+                                null,
+                                Collections.singletonList(new SimpleGrantedAuthority(authorityName))
+                        );
+
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+
+                log.debug("Auth set for user: {} with authorities: {}", username, authToken.getAuthorities());
             }
 
+        } catch (JwtException e) {
+            log.warn("Token validation failed: {}", e.getMessage());
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage(), e);
         }
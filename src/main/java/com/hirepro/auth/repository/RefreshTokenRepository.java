@@ -1,5 +1,6 @@
 package com.hirepro.auth.repository;
 
+import com.hirepro.auth.dto.RefreshTokenSession;
 import com.hirepro.auth.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -13,15 +14,39 @@ import java.util.Optional;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
 
-    @Query("SELECT rt FROM RefreshToken rt WHERE rt.token = :token AND rt.revoked = false AND rt.expiresAt > :now")
-    Optional<RefreshToken> findValidToken(@Param("token") String token, @Param("now") LocalDateTime now);
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash AND rt.revoked = false AND rt.expiresAt > :now")
+    Optional<RefreshToken> findValidToken(@Param("tokenHash") byte[] tokenHash, @Param("now") LocalDateTime now);
+
+    /**
+     * Loads a valid token together with its (non-deleted) owner in one round-trip
+     */
+    @Query("SELECT new com.hirepro.auth.dto.RefreshTokenSession(rt.id, u.id, u.email, u.role, u.status, u.clientId) " +
+            "FROM RefreshToken rt JOIN AuthUser u ON u.id = rt.userId " +
+            "WHERE rt.tokenHash = :tokenHash AND rt.revoked = false AND rt.expiresAt > :now AND u.deletedAt IS NULL")
+    Optional<RefreshTokenSession> findValidSession(@Param("tokenHash") byte[] tokenHash, @Param("now") LocalDateTime now);
+
+    /**
+     * Compare-and-swap rotation: replaces the hash only if the row still holds the presented one.
+     * Returns 0 when another request rotated or revoked the token first.
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.tokenHash = :newHash, rt.expiresAt = :expiresAt " +
+            "WHERE rt.id = :id AND rt.tokenHash = :oldHash AND rt.revoked = false")
+    int rotate(@Param("id") Long id,
+               @Param("oldHash") byte[] oldHash,
+               @Param("newHash") byte[] newHash,
+               @Param("expiresAt") LocalDateTime expiresAt);
 
     @Modifying
     @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.userId = :userId")
     void revokeAllUserTokens(@Param("userId") String userId);
 
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.tokenHash = :tokenHash")
+    int revokeByTokenHash(@Param("tokenHash") byte[] tokenHash);
+
     @Modifying
     @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
     void deleteExpiredTokens(@Param("now") LocalDateTime now);
@@ -0,0 +1,210 @@
+package com.hirepro.auth.security;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory set of user ids whose account is not ACTIVE or has been deleted.
+ * The JWT filter checks it on every request, so a deactivated user loses access immediately
+ * instead of when their access token expires.
+ *
+ * <p>For active users it also keeps the current role and client id, which sliding renewal puts
+ * into the replacement token instead of copying the claims of the token being renewed.</p>
+ *
+ * <p>Changes made through this instance are applied as soon as their transaction commits.
+ * Changes from other instances or direct SQL are picked up by polling {@code updated_at};
+ * each poll re-reads a short overlap window so rows committed late are not missed.</p>
+ *
+ * <p>The full snapshot is loaded while the bean is created, and startup fails if that load fails:
+ * an empty set would let every deactivated user through. Later poll failures keep the last snapshot
+ * and show up in {@link #snapshot()} as consecutive failures and a growing staleness.</p>
+ */
+@Component
+public class AccountStatusRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountStatusRegistry.class);
+
+    private static final String MAX_UPDATED_AT_SQL = "SELECT MAX(updated_at) FROM auth_users";
+    private static final String DISABLED_USERS_SQL =
+            "SELECT id FROM auth_users WHERE status <> 'ACTIVE' OR deleted_at IS NOT NULL";
+    private static final String ACTIVE_USER_CLAIMS_SQL =
+            "SELECT id, role, client_id FROM auth_users WHERE status = 'ACTIVE' AND deleted_at IS NULL";
+    private static final String CHANGED_USERS_SQL =
+            "SELECT id, status, role, client_id, deleted_at, updated_at FROM auth_users WHERE updated_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long overlapMillis;
+    private final Set<String> disabledUserIds = ConcurrentHashMap.newKeySet();
+    private final Map<String, AccountClaims> activeUserClaims = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime watermark;
+    private volatile long lastRefreshMillis;
+    private volatile int consecutiveFailures;
+    private final LongAdder failedPolls = new LongAdder();
+
+    public AccountStatusRegistry(JdbcTemplate jdbcTemplate,
+                                 @Value("${app.account-status.poll-overlap-ms:60000}") long overlapMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.overlapMillis = overlapMillis;
+    }
+
+    public boolean isDisabled(String userId) {
+        return userId != null && !disabledUserIds.isEmpty() && disabledUserIds.contains(userId);
+    }
+
+    /**
+     * Current role and client id of an active user, or null when the account is disabled or unknown
+     */
+    public AccountClaims currentClaims(String userId) {
+        return userId != null ? activeUserClaims.get(userId) : null;
+    }
+
+    /**
+     * Records a status, role or client change; inside a transaction it takes effect after commit
+     */
+    public void update(String userId, String status, String role, String clientId, boolean deleted) {
+        boolean disabled = deleted || !"ACTIVE".equals(status);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, disabled, role, clientId);
+                }
+            });
+        } else {
+            apply(userId, disabled, role, clientId);
+        }
+    }
+
+    @PostConstruct
+    public void initialize() {
+        try {
+            loadAll();
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Could not load the account status snapshot; refusing to start "
+                    + "without it, since deactivated users would be accepted", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.account-status.poll-interval-ms:10000}")
+    public void poll() {
+        try {
+            if (watermark == null) {
+                loadAll();
+            } else {
+                loadChanges();
+            }
+        } catch (RuntimeException e) {
+            consecutiveFailures++;
+            failedPolls.increment();
+            log.warn("Failed to refresh account status snapshot ({} consecutive failure(s)): {}",
+                    consecutiveFailures, e.getMessage());
+        }
+    }
+
+    public int size() {
+        return disabledUserIds.size();
+    }
+
+    public boolean isLoaded() {
+        return watermark != null;
+    }
+
+    /**
+     * Snapshot state; {@code stalenessMillis} is the time since the last successful load or poll
+     */
+    public Map<String, Object> snapshot() {
+        long refreshedAt = lastRefreshMillis;
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("loaded", isLoaded());
+        map.put("disabledUsers", disabledUserIds.size());
+        map.put("activeUsers", activeUserClaims.size());
+        map.put("stalenessMillis", refreshedAt == 0 ? -1 : System.currentTimeMillis() - refreshedAt);
+        map.put("consecutiveFailures", consecutiveFailures);
+        map.put("failedPolls", failedPolls.sum());
+        return map;
+    }
+
+    private void loadAll() {
+        // Read the watermark first so rows changed during the full load are read again by the next poll
+        Timestamp maxUpdatedAt = jdbcTemplate.queryForObject(MAX_UPDATED_AT_SQL, Timestamp.class);
+        disabledUserIds.addAll(jdbcTemplate.queryForList(DISABLED_USERS_SQL, String.class));
+        jdbcTemplate.query(ACTIVE_USER_CLAIMS_SQL, rs -> {
+            activeUserClaims.put(rs.getString("id"),
+                    new AccountClaims(rs.getString("role"), rs.getString("client_id")));
+        });
+        watermark = maxUpdatedAt != null ? maxUpdatedAt.toLocalDateTime() : LocalDateTime.now();
+        markRefreshed();
+        log.info("Account status snapshot loaded: {} disabled user(s)", disabledUserIds.size());
+    }
+
+    private void loadChanges() {
+        LocalDateTime since = watermark.minusNanos(overlapMillis * 1_000_000L);
+        LocalDateTime[] latest = {watermark};
+
+        jdbcTemplate.query(CHANGED_USERS_SQL, rs -> {
+            boolean deleted = rs.getTimestamp("deleted_at") != null;
+            apply(rs.getString("id"), deleted || !"ACTIVE".equals(rs.getString("status")),
+                    rs.getString("role"), rs.getString("client_id"));
+
+            LocalDateTime updatedAt = rs.getTimestamp("updated_at").toLocalDateTime();
+            if (updatedAt.isAfter(latest[0])) {
+                latest[0] = updatedAt;
+            }
+        }, Timestamp.valueOf(since));
+
+        watermark = latest[0];
+        markRefreshed();
+    }
+
+    private void markRefreshed() {
+        lastRefreshMillis = System.currentTimeMillis();
+        consecutiveFailures = 0;
+    }
+
+    private void apply(String userId, boolean disabled, String role, String clientId) {
+        if (disabled) {
+            disabledUserIds.add(userId);
+            activeUserClaims.remove(userId);
+        } else {
+            activeUserClaims.put(userId, new AccountClaims(role, clientId));
+            disabledUserIds.remove(userId);
+        }
+    }
+
+    /**
+     * Role and client id as currently stored for a user
+     */
+    public static final class AccountClaims {
+        private final String role;
+        private final String clientId;
+
+        public AccountClaims(String role, String clientId) {
+            this.role = role;
+            this.clientId = clientId;
+        }
+
+        public String getRole() {
+            return role;
+        }
+
+        public String getClientId() {
+            return clientId;
+        }
+    }
+}
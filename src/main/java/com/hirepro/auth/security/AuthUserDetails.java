@@ -0,0 +1,47 @@
+package com.hirepro.auth.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * UserDetails loaded during login that also carries the user's id, role and client.
+ * Lets the login flow issue tokens without querying the user a second time.
+ */
+public class AuthUserDetails extends User {
+
+    private final String userId;
+    private final String role;
+    private final String clientId;
+
+    public AuthUserDetails(String userId, String role, String clientId,
+                           String username, String password,
+                           boolean enabled, boolean accountNonLocked,
+                           Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, enabled, true, true, accountNonLocked, authorities);
+        this.userId = userId;
+        this.role = role;
+        this.clientId = clientId;
+    }
+
+    /**
+     * Copy with a new password hash, used after a transparent rehash
+     */
+    public AuthUserDetails withPassword(String newPassword) {
+        return new AuthUserDetails(userId, role, clientId, getUsername(), newPassword,
+                isEnabled(), isAccountNonLocked(), getAuthorities());
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getClientId() {
+        return clientId;
+    }
+}
@@ -0,0 +1,239 @@
+package com.hirepro.auth.security;
+
+import com.hirepro.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token-bucket limits for the public credential endpoints, checked before any BCrypt or database work.
+ * Every login and registration takes a token from the client IP's bucket. Failed logins additionally
+ * drain a bucket keyed on the client IP and username, and a drained one rejects further attempts on
+ * that pair; successful logins never touch it, and guessing from one address cannot lock the account
+ * out for anyone else.
+ *
+ * <p>Buckets live in lock-striped LRU tables: a key only contends with keys hashing to the same stripe,
+ * and memory stays bounded under a spray of random usernames or addresses. A full stripe only evicts
+ * buckets that have refilled completely, so they would start full again anyway; a drained bucket is kept
+ * until it has refilled, and spraying other keys cannot push it out to reset it. While a stripe holds
+ * nothing evictable, new keys share one overflow bucket per stripe.</p>
+ *
+ * <p>The IP is {@code getRemoteAddr()}, which reflects the client rather than the proxy because
+ * {@code server.forward-headers-strategy} is {@code native}.</p>
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final BucketTable ipBuckets;
+    private final BucketTable usernameBuckets;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder rejectedByUsername = new LongAdder();
+    private final LongAdder failedLogins = new LongAdder();
+
+    public LoginRateLimiter(@Value("${app.rate-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${app.rate-limit.ip.refill-per-minute:20}") double ipRefillPerMinute,
+                            @Value("${app.rate-limit.username.capacity:5}") int usernameCapacity,
+                            @Value("${app.rate-limit.username.refill-per-minute:2}") double usernameRefillPerMinute,
+                            @Value("${app.rate-limit.stripes:64}") int stripes,
+                            @Value("${app.rate-limit.max-entries:100000}") int maxEntries) {
+        this.ipBuckets = new BucketTable(stripes, maxEntries, ipCapacity, ipRefillPerMinute);
+        this.usernameBuckets = new BucketTable(stripes, maxEntries, usernameCapacity, usernameRefillPerMinute);
+    }
+
+    /**
+     * Takes one token from the caller's IP bucket and rejects the attempt while its failed-login bucket
+     * is drained, throwing with the time until either allows another attempt
+     */
+    public void checkLogin(String ip, String username) {
+        long waitNanos = ipBuckets.tryAcquire(ip, true);
+        if (waitNanos > 0) {
+            rejectedByIp.increment();
+            throw tooManyRequests(waitNanos);
+        }
+        if (username != null) {
+            waitNanos = usernameBuckets.tryAcquire(failureKey(ip, username), false);
+            if (waitNanos > 0) {
+                rejectedByUsername.increment();
+                throw tooManyRequests(waitNanos);
+            }
+        }
+        allowed.increment();
+    }
+
+    /**
+     * Charges a rejected password to the caller's IP and username
+     */
+    public void recordLoginFailure(String ip, String username) {
+        if (username != null) {
+            usernameBuckets.tryAcquire(failureKey(ip, username), true);
+            failedLogins.increment();
+        }
+    }
+
+    public void checkRegister(String ip) {
+        long waitNanos = ipBuckets.tryAcquire(ip, true);
+        if (waitNanos > 0) {
+            rejectedByIp.increment();
+            throw tooManyRequests(waitNanos);
+        }
+        allowed.increment();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("allowed", allowed.sum());
+        map.put("rejectedByIp", rejectedByIp.sum());
+        map.put("rejectedByUsername", rejectedByUsername.sum());
+        map.put("failedLogins", failedLogins.sum());
+        map.put("ipBuckets", ipBuckets.size());
+        map.put("usernameBuckets", usernameBuckets.size());
+        map.put("evictions", ipBuckets.evictions.sum() + usernameBuckets.evictions.sum());
+        map.put("overflowed", ipBuckets.overflowed.sum() + usernameBuckets.overflowed.sum());
+        return map;
+    }
+
+    public void reset() {
+        allowed.reset();
+        rejectedByIp.reset();
+        rejectedByUsername.reset();
+        failedLogins.reset();
+        ipBuckets.evictions.reset();
+        usernameBuckets.evictions.reset();
+        ipBuckets.overflowed.reset();
+        usernameBuckets.overflowed.reset();
+    }
+
+    private static String failureKey(String ip, String username) {
+        return ip + ' ' + username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static TooManyRequestsException tooManyRequests(long waitNanos) {
+        long seconds = Math.max(1, (long) Math.ceil(waitNanos / 1_000_000_000.0));
+        return new TooManyRequestsException("Too many attempts. Please try again later.", seconds);
+    }
+
+    private static final class BucketTable {
+        // Oldest entries examined for a refilled bucket when a full stripe needs room
+        private static final int EVICTION_SCAN = 8;
+
+        private final Stripe[] stripes;
+        private final int mask;
+        private final double capacity;
+        private final double tokensPerNano;
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder overflowed = new LongAdder();
+
+        BucketTable(int stripeCount, int maxEntries, int capacity, double refillPerMinute) {
+            int count = Integer.highestOneBit(Math.max(1, stripeCount));
+            int perStripe = Math.max(1, maxEntries / count);
+            this.stripes = new Stripe[count];
+            for (int i = 0; i < count; i++) {
+                stripes[i] = new Stripe(perStripe, new Bucket(capacity, System.nanoTime()));
+            }
+            this.mask = count - 1;
+            this.capacity = capacity;
+            this.tokensPerNano = refillPerMinute / 60_000_000_000.0;
+        }
+
+        /**
+         * Returns 0 when a token is available (and takes it if {@code take}), otherwise the nanoseconds
+         * until the next token. Looking without taking never creates a bucket; an unknown key reads as
+         * full, or as the overflow bucket while the stripe is full.
+         */
+        long tryAcquire(String key, boolean take) {
+            if (key == null) {
+                return 0;
+            }
+            int h = key.hashCode();
+            Stripe stripe = stripes[(h ^ (h >>> 16)) & mask];
+            long now = System.nanoTime();
+
+            synchronized (stripe) {
+                Bucket bucket = stripe.get(key);
+                if (bucket == null) {
+                    boolean room = stripe.size() < stripe.maxEntries;
+                    if (!take) {
+                        if (room) {
+                            return 0;
+                        }
+                        // A key charged while the stripe was full lives in the overflow bucket
+                        bucket = stripe.overflow;
+                    } else if (room || evictRefilled(stripe, now)) {
+                        bucket = new Bucket(capacity, now);
+                        stripe.put(key, bucket);
+                    } else {
+                        overflowed.increment();
+                        bucket = stripe.overflow;
+                    }
+                }
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.refilledAt) * tokensPerNano);
+                bucket.refilledAt = now;
+
+                if (bucket.tokens >= 1.0) {
+                    if (take) {
+                        bucket.tokens -= 1.0;
+                    }
+                    return 0;
+                }
+                return tokensPerNano > 0 ? (long) Math.ceil((1.0 - bucket.tokens) / tokensPerNano) : Long.MAX_VALUE;
+            }
+        }
+
+        /**
+         * Removes one of the least recently used buckets that has refilled to capacity, if there is one
+         */
+        private boolean evictRefilled(Stripe stripe, long now) {
+            Iterator<Bucket> iterator = stripe.values().iterator();
+            for (int i = 0; i < EVICTION_SCAN && iterator.hasNext(); i++) {
+                Bucket candidate = iterator.next();
+                if (candidate.tokens + (now - candidate.refilledAt) * tokensPerNano >= capacity) {
+                    iterator.remove();
+                    evictions.increment();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int size() {
+            int size = 0;
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    size += stripe.size();
+                }
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Access-ordered, so iteration starts at the least recently used bucket
+     */
+    private static final class Stripe extends LinkedHashMap<String, Bucket> {
+        private final int maxEntries;
+        private final Bucket overflow;
+
+        Stripe(int maxEntries, Bucket overflow) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+            this.overflow = overflow;
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.hirepro.auth.security;
+
+import com.hirepro.roles.enums.Permission;
+import com.hirepro.roles.service.RolePermissionRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Backs {@code hasPermission(..., 'PERMISSION')} in {@code @PreAuthorize} with a single bitwise AND
+ * against the caller's permission mask. The mask embedded in the token is used while it matches the
+ * current grant table; otherwise the role's mask is read from {@link RolePermissionRegistry}.
+ */
+@Component
+public class PermissionMaskEvaluator implements PermissionEvaluator {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionMaskEvaluator.class);
+
+    private static final Map<String, Permission> PERMISSIONS_BY_NAME = new HashMap<>();
+
+    static {
+        for (Permission permission : Permission.values()) {
+            PERMISSIONS_BY_NAME.put(permission.name(), permission);
+        }
+    }
+
+    private final RolePermissionRegistry rolePermissionRegistry;
+
+    public PermissionMaskEvaluator(RolePermissionRegistry rolePermissionRegistry) {
+        this.rolePermissionRegistry = rolePermissionRegistry;
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        return check(authentication, permission);
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType,
+                                 Object permission) {
+        return check(authentication, permission);
+    }
+
+    private boolean check(Authentication authentication, Object permission) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof TokenPrincipal principal)) {
+            return false;
+        }
+
+        Permission required = permission instanceof Permission p ? p : PERMISSIONS_BY_NAME.get(String.valueOf(permission));
+        if (required == null) {
+            log.warn("Unknown permission in expression: {}", permission);
+            return false;
+        }
+
+        return (maskOf(principal) & required.mask()) != 0;
+    }
+
+    private long maskOf(TokenPrincipal principal) {
+        if (principal.hasPermissionMask() && principal.getPermissionVersion() == rolePermissionRegistry.getVersion()) {
+            return principal.getPermissionMask();
+        }
+        return rolePermissionRegistry.maskFor(principal.getRole());
+    }
+}
@@ -0,0 +1,243 @@
+package com.hirepro.auth.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * URL authorization rules compiled into a trie of path segments per HTTP method.
+ * A lookup walks the request path once and returns the first declared rule that matches,
+ * which gives the same result as an ordered list of request matchers without testing each one.
+ *
+ * <p>Patterns are literal segments, {@code *} or {@code {name}} for one segment, and a trailing
+ * {@code /**} for any remainder (including none). Requests matching no rule must be authenticated.</p>
+ */
+public final class RouteAuthorizationTable implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
+    private final Node anyMethod;
+    private final Map<String, Node> byMethod;
+    private final Rule fallback;
+
+    private RouteAuthorizationTable(Node anyMethod, Map<String, Node> byMethod) {
+        this.anyMethod = anyMethod;
+        this.byMethod = byMethod;
+        this.fallback = new Rule(Integer.MAX_VALUE, Access.AUTHENTICATED, Set.of());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        Rule rule = find(context.getRequest());
+        return rule.allows(authentication) ? GRANTED : DENIED;
+    }
+
+    Rule find(HttpServletRequest request) {
+        String[] segments = segments(pathWithinApplication(request));
+
+        Rule rule = match(anyMethod, segments, 0);
+        Node methodRoot = byMethod.get(request.getMethod());
+        if (methodRoot != null) {
+            rule = first(rule, match(methodRoot, segments, 0));
+        }
+        return rule != null ? rule : fallback;
+    }
+
+    private static Rule match(Node node, String[] segments, int index) {
+        Rule best = node.remainder;
+        if (index == segments.length) {
+            return first(best, node.exact);
+        }
+
+        Node literal = node.literals.get(segments[index]);
+        if (literal != null) {
+            best = first(best, match(literal, segments, index + 1));
+        }
+        if (node.variable != null) {
+            best = first(best, match(node.variable, segments, index + 1));
+        }
+        return best;
+    }
+
+    private static Rule first(Rule a, Rule b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        return a.order <= b.order ? a : b;
+    }
+
+    /**
+     * The decoded, normalised path the request is dispatched on ({@code servletPath + pathInfo}),
+     * the same one request matchers and MVC handler mapping use. The raw request URI must not be
+     * used: {@code /%61ctuator/env} would miss the {@code /actuator/**} rule yet still reach actuator.
+     */
+    private static String pathWithinApplication(HttpServletRequest request) {
+        String servletPath = request.getServletPath();
+        String pathInfo = request.getPathInfo();
+        if (pathInfo == null) {
+            return servletPath != null ? servletPath : "";
+        }
+        return servletPath != null ? servletPath + pathInfo : pathInfo;
+    }
+
+    private static String[] segments(String path) {
+        List<String> segments = new ArrayList<>(8);
+        int start = 0;
+        int length = path.length();
+        while (start < length) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                segments.add(path.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return segments.toArray(new String[0]);
+    }
+
+    private enum Access {
+        PERMIT_ALL,
+        AUTHENTICATED,
+        ANY_AUTHORITY
+    }
+
+    static final class Rule {
+        private final int order;
+        private final Access access;
+        private final Set<String> authorities;
+
+        Rule(int order, Access access, Set<String> authorities) {
+            this.order = order;
+            this.access = access;
+            this.authorities = authorities;
+        }
+
+        boolean allows(Supplier<Authentication> supplier) {
+            if (access == Access.PERMIT_ALL) {
+                return true;
+            }
+            Authentication authentication = supplier.get();
+            if (authentication == null || !authentication.isAuthenticated()
+                    || TRUST_RESOLVER.isAnonymous(authentication)) {
+                return false;
+            }
+            if (access == Access.AUTHENTICATED) {
+                return true;
+            }
+            for (GrantedAuthority authority : authentication.getAuthorities()) {
+                if (authorities.contains(authority.getAuthority())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node variable;
+        private Rule exact;
+        private Rule remainder;
+
+        Node child(String segment) {
+            if ("*".equals(segment) || (segment.startsWith("{") && segment.endsWith("}"))) {
+                if (variable == null) {
+                    variable = new Node();
+                }
+                return variable;
+            }
+            return literals.computeIfAbsent(segment, s -> new Node());
+        }
+    }
+
+    /**
+     * Collects rules in priority order; earlier rules win, as with {@code requestMatchers}
+     */
+    public static final class Builder {
+        private final Node anyMethod = new Node();
+        private final Map<String, Node> byMethod = new HashMap<>();
+        private int order;
+
+        private Builder() {
+        }
+
+        public Builder permitAll(HttpMethod method, String... patterns) {
+            return add(method, Access.PERMIT_ALL, Set.of(), patterns);
+        }
+
+        public Builder permitAll(String... patterns) {
+            return permitAll(null, patterns);
+        }
+
+        public Builder authenticated(HttpMethod method, String... patterns) {
+            return add(method, Access.AUTHENTICATED, Set.of(), patterns);
+        }
+
+        public Builder authenticated(String... patterns) {
+            return authenticated(null, patterns);
+        }
+
+        public Builder hasAnyRole(String pattern, String... roles) {
+            Set<String> authorities = new HashSet<>();
+            for (String role : roles) {
+                authorities.add(role.startsWith("ROLE_") ? role : "ROLE_" + role);
+            }
+            return add(null, Access.ANY_AUTHORITY, Set.copyOf(authorities), pattern);
+        }
+
+        public RouteAuthorizationTable build() {
+            return new RouteAuthorizationTable(anyMethod, Map.copyOf(byMethod));
+        }
+
+        private Builder add(HttpMethod method, Access access, Set<String> authorities, String... patterns) {
+            Node root = method == null ? anyMethod : byMethod.computeIfAbsent(method.name(), m -> new Node());
+            for (String pattern : patterns) {
+                Rule rule = new Rule(order++, access, authorities);
+                String[] segments = segments(pattern);
+                Node node = root;
+                for (int i = 0; i < segments.length; i++) {
+                    if ("**".equals(segments[i])) {
+                        if (i != segments.length - 1) {
+                            throw new IllegalArgumentException("'**' is only supported at the end of a pattern: " + pattern);
+                        }
+                        if (node.remainder == null) {
+                            node.remainder = rule;
+                        }
+                        node = null;
+                        break;
+                    }
+                    node = node.child(segments[i]);
+                }
+                if (node != null && node.exact == null) {
+                    node.exact = rule;
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.hirepro.auth.security;
+
+import com.hirepro.auth.util.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stateless sliding renewal of access tokens.
+ * When a valid token is within {@code jwt.sliding-renewal.threshold-millis} of expiry, the filter
+ * swaps in a freshly signed token without touching the database. The original {@code auth_time}
+ * is kept, so once {@code max-session-millis} has passed the client has to go through
+ * {@code /auth/refresh-token} again, where account status and refresh-token revocation are checked.
+ * The replacement carries the role and client id from {@link AccountStatusRegistry}, not those of the
+ * token it replaces, so role and tenant changes are picked up within one renewal.
+ *
+ * <p>Concurrent requests carrying the same expiring token receive the same replacement. Each renewal
+ * records both jtis, so logout can revoke the whole chain (see {@link #removeRenewalChain}).</p>
+ */
+@Component
+public class SlidingTokenRenewer {
+
+    private final JwtUtil jwtUtil;
+    private final AccountStatusRegistry accountStatusRegistry;
+    private final boolean enabled;
+    private final long thresholdMillis;
+    private final long maxSessionMillis;
+
+    // Replacement tokens keyed by the jti of the token they replace, kept until that token expires
+    private final Map<String, Renewal> renewals = new ConcurrentHashMap<>();
+
+    private final LongAdder issued = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder sessionLimitReached = new LongAdder();
+    private final LongAdder claimsUpdated = new LongAdder();
+    private final LongAdder explicitRefreshes = new LongAdder();
+
+    public SlidingTokenRenewer(JwtUtil jwtUtil,
+                               AccountStatusRegistry accountStatusRegistry,
+                               @Value("${jwt.sliding-renewal.enabled:true}") boolean enabled,
+                               @Value("${jwt.sliding-renewal.threshold-millis:300000}") long thresholdMillis,
+                               @Value("${jwt.sliding-renewal.max-session-millis:3600000}") long maxSessionMillis) {
+        this.jwtUtil = jwtUtil;
+        this.accountStatusRegistry = accountStatusRegistry;
+        this.enabled = enabled;
+        this.thresholdMillis = thresholdMillis;
+        this.maxSessionMillis = maxSessionMillis;
+    }
+
+    /**
+     * Returns a replacement access token when the presented one is close to expiry, otherwise null
+     */
+    public String renewIfNeeded(TokenPrincipal principal) {
+        if (!enabled || principal.getTokenId() == null) {
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        if (principal.getExpiresAtMillis() - now > thresholdMillis) {
+            return null;
+        }
+        if (now - principal.getAuthTimeMillis() >= maxSessionMillis) {
+            sessionLimitReached.increment();
+            return null;
+        }
+        // Unknown to the snapshot: leave it to /auth/refresh-token, which reads the account
+        AccountStatusRegistry.AccountClaims current = accountStatusRegistry.currentClaims(principal.getUserId());
+        if (current == null) {
+            return null;
+        }
+
+        boolean[] created = new boolean[1];
+        Renewal renewal = renewals.computeIfAbsent(principal.getTokenId(), id -> {
+            created[0] = true;
+            if (!Objects.equals(current.getRole(), principal.getRole())
+                    || !Objects.equals(current.getClientId(), principal.getClientId())) {
+                claimsUpdated.increment();
+            }
+            String token = jwtUtil.renewAccessToken(principal, current.getRole(), current.getClientId());
+            TokenPrincipal renewed = jwtUtil.parseVerifiedToken(token);
+            return new Renewal(token, renewed.getTokenId(), renewed.getExpiresAtMillis(),
+                    id, principal.getExpiresAtMillis());
+        });
+
+        if (created[0]) {
+            issued.increment();
+        } else {
+            shared.increment();
+        }
+        return renewal.token;
+    }
+
+    public long getCookieMaxAgeSeconds() {
+        return jwtUtil.getAccessTokenExpiration() / 1000;
+    }
+
+    public void recordExplicitRefresh() {
+        explicitRefreshes.increment();
+    }
+
+    /**
+     * Drops the renewals linked to a token that is being logged out and returns the other tokens in
+     * its chain, jti to expiry: the ones it replaced and the ones that replaced it. Revoking only the
+     * presented token would leave its predecessor valid, and the filter would keep handing that
+     * predecessor the renewed cookie until it expired.
+     */
+    public Map<String, Long> removeRenewalChain(String tokenId) {
+        Map<String, Long> chain = new LinkedHashMap<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.push(tokenId);
+
+        while (!pending.isEmpty()) {
+            String id = pending.pop();
+
+            // The token that replaced this one
+            Renewal successor = renewals.remove(id);
+            if (successor != null && !successor.tokenId.equals(tokenId)
+                    && chain.putIfAbsent(successor.tokenId, successor.expiresAt) == null) {
+                pending.push(successor.tokenId);
+            }
+
+            // The token this one replaced; renewals are only keyed by the replaced jti, so scan
+            for (Iterator<Renewal> it = renewals.values().iterator(); it.hasNext(); ) {
+                Renewal renewal = it.next();
+                if (renewal.tokenId.equals(id)) {
+                    it.remove();
+                    if (!renewal.replacedTokenId.equals(tokenId)
+                            && chain.putIfAbsent(renewal.replacedTokenId, renewal.replacedTokenExpiresAt) == null) {
+                        pending.push(renewal.replacedTokenId);
+                    }
+                }
+            }
+        }
+        return chain;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.sliding-renewal.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        renewals.values().removeIf(renewal -> renewal.replacedTokenExpiresAt <= now);
+    }
+
+    /**
+     * Renewal counters; {@code renewalShare} is the fraction of token renewals that
+     * were served by the filter instead of an explicit refresh call
+     */
+    public Map<String, Object> snapshot() {
+        long renewed = issued.sum();
+        long refreshes = explicitRefreshes.sum();
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("enabled", enabled);
+        map.put("slidingRenewals", renewed);
+        map.put("sharedRenewals", shared.sum());
+        map.put("sessionLimitReached", sessionLimitReached.sum());
+        map.put("claimsUpdated", claimsUpdated.sum());
+        map.put("explicitRefreshes", refreshes);
+        map.put("renewalShare", renewed + refreshes == 0 ? 0.0 : (double) renewed / (renewed + refreshes));
+        map.put("pendingReplacements", renewals.size());
+        return map;
+    }
+
+    public void reset() {
+        issued.reset();
+        shared.reset();
+        sessionLimitReached.reset();
+        claimsUpdated.reset();
+        explicitRefreshes.reset();
+    }
+
+    private static final class Renewal {
+        private final String token;
+        private final String tokenId;
+        private final long expiresAt;
+        private final String replacedTokenId;
+        private final long replacedTokenExpiresAt;
+
+        Renewal(String token, String tokenId, long expiresAt, String replacedTokenId, long replacedTokenExpiresAt) {
+            this.token = token;
+            this.tokenId = tokenId;
+            this.expiresAt = expiresAt;
+            this.replacedTokenId = replacedTokenId;
+            this.replacedTokenExpiresAt = replacedTokenExpiresAt;
+        }
+    }
+}
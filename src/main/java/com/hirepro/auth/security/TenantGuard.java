@@ -0,0 +1,88 @@
+package com.hirepro.auth.security;
+
+import com.hirepro.common.exception.AccessDeniedException;
+import com.hirepro.users.enums.UserRole;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tenant checks against the client id carried in the caller's access token.
+ * Every authenticated caller except SUPERADMIN is bound to the client id in their token; one whose
+ * token has no client id is bound to {@link #NO_TENANT}, which matches no client, rather than to
+ * every tenant. Callers may also only grant roles at or below their own, so a tenant-bound admin
+ * cannot mint an untenanted SUPERADMIN. Work without an authenticated caller (login, scheduled jobs)
+ * is not restricted.
+ * Nothing here touches the database.
+ */
+@Component
+public class TenantGuard {
+
+    /**
+     * Tenant of a non-SUPERADMIN caller without a client id; equal to no stored client id
+     */
+    public static final String NO_TENANT = "";
+
+    /**
+     * Client id the current caller is bound to, or null when the caller is not tenant-bound
+     */
+    public String currentTenant() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof TokenPrincipal principal)) {
+            return null;
+        }
+        if (isSuperAdmin(principal.getRole())) {
+            return null;
+        }
+        String clientId = principal.getClientId();
+        return clientId != null && !clientId.isEmpty() ? clientId : NO_TENANT;
+    }
+
+    public boolean isTenantBound() {
+        return currentTenant() != null;
+    }
+
+    /**
+     * Rejects the request when a tenant-bound caller addresses another tenant's client id
+     * (including none, which would create or expose records outside every tenant)
+     */
+    public void checkClientAccess(String clientId) {
+        String tenant = currentTenant();
+        if (tenant != null && (tenant.equals(NO_TENANT) || !tenant.equals(clientId))) {
+            throw new AccessDeniedException("Access denied for client: " + clientId);
+        }
+    }
+
+    /**
+     * Rejects the request when the caller assigns a role above their own: only SUPERADMIN grants
+     * SUPERADMIN, and only admins grant CLIENT_ADMIN. A null role (no change) is always allowed
+     */
+    public void checkRoleAssignment(String role) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (role == null || authentication == null
+                || !(authentication.getPrincipal() instanceof TokenPrincipal principal)) {
+            return;
+        }
+        if (roleRank(role) < roleRank(principal.getRole())) {
+            throw new AccessDeniedException("Access denied for role: " + role);
+        }
+    }
+
+    private static boolean isSuperAdmin(String role) {
+        return roleRank(role) == 0;
+    }
+
+    /**
+     * 0 for SUPERADMIN, 1 for CLIENT_ADMIN, 2 for every other (or unknown) role; lower is stronger
+     */
+    private static int roleRank(String role) {
+        if (role == null) {
+            return 2;
+        }
+        String name = role.startsWith("ROLE_") ? role.substring(5) : role;
+        if (UserRole.SUPERADMIN.name().equals(name)) {
+            return 0;
+        }
+        return UserRole.CLIENT_ADMIN.name().equals(name) ? 1 : 2;
+    }
+}
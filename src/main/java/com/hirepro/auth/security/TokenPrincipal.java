@@ -0,0 +1,113 @@
+package com.hirepro.auth.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Immutable view of a verified access token.
+ * Built once per token after signature and expiry checks have passed, and set as the
+ * authentication principal so controllers can take it with {@code @AuthenticationPrincipal}.
+ */
+public final class TokenPrincipal implements AuthenticatedPrincipal {
+
+    public static final long NO_PERMISSION_VERSION = -1L;
+
+    private final String tokenId;
+    private final String userId;
+    private final String username;
+    private final String role;
+    private final String clientId;
+    private final long issuedAtMillis;
+    private final long authTimeMillis;
+    private final long expiresAtMillis;
+    private final long permissionMask;
+    private final long permissionVersion;
+
+    public TokenPrincipal(String tokenId, String userId, String username, String role, String clientId,
+                          long issuedAtMillis, long authTimeMillis, long expiresAtMillis,
+                          long permissionMask, long permissionVersion) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.username = username;
+        this.role = role;
+        this.clientId = clientId;
+        this.issuedAtMillis = issuedAtMillis;
+        this.authTimeMillis = authTimeMillis;
+        this.expiresAtMillis = expiresAtMillis;
+        this.permissionMask = permissionMask;
+        this.permissionVersion = permissionVersion;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * The username (email), so {@code Authentication.getName()} keeps its meaning
+     */
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    /**
+     * Tenant of the user; null for SUPERADMIN
+     */
+    public String getClientId() {
+        return clientId;
+    }
+
+    public long getIssuedAtMillis() {
+        return issuedAtMillis;
+    }
+
+    /**
+     * When the user last presented credentials or a refresh token; carried over by sliding renewal
+     */
+    public long getAuthTimeMillis() {
+        return authTimeMillis;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    /**
+     * Permission mask embedded at issue time; only meaningful when {@link #hasPermissionMask()}
+     */
+    public long getPermissionMask() {
+        return permissionMask;
+    }
+
+    public long getPermissionVersion() {
+        return permissionVersion;
+    }
+
+    public boolean hasPermissionMask() {
+        return permissionVersion != NO_PERMISSION_VERSION;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "TokenPrincipal{" +
+                "userId='" + userId + '\'' +
+                ", username='" + username + '\'' +
+                ", role='" + role + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,204 @@
+package com.hirepro.auth.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-memory denylist of access tokens that were revoked before they expired.
+ *
+ * <p>Revoked token ids are grouped into time buckets by token expiry. Each bucket holds a small
+ * Bloom filter in front of an exact set: almost every request is answered by a few bit reads, and
+ * only Bloom hits are confirmed against the set. The buckets form a ring sized so that every live
+ * access token maps to its own slot; a slot is recycled once all tokens in it have expired, so memory
+ * is bounded by the number of revocations within one {@code jwt.access-token-expiration}.</p>
+ *
+ * <p>Revoking all tokens of a user records a cutoff instead: tokens issued before it are rejected.</p>
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private static final int HASH_FUNCTIONS = 3;
+
+    private final long bucketWidthMillis;
+    private final long accessTokenExpirationMillis;
+    private final int bloomMask;
+    private final AtomicReferenceArray<Bucket> ring;
+
+    // Tokens whose expiry falls outside the ring, e.g. issued before a change of token lifetime
+    private final Map<String, Long> overflow = new ConcurrentHashMap<>();
+    private final Map<String, Long> userCutoffs = new ConcurrentHashMap<>();
+
+    public TokenRevocationList(@Value("${jwt.access-token-expiration}") long accessTokenExpiration,
+                               @Value("${jwt.revocation.buckets:8}") int bucketCount,
+                               @Value("${jwt.revocation.bloom-bits:262144}") int bloomBits) {
+        if (bucketCount < 2) {
+            throw new IllegalStateException("jwt.revocation.buckets must be at least 2");
+        }
+        this.accessTokenExpirationMillis = accessTokenExpiration;
+        // One spare slot so the bucket being filled never collides with the oldest live one
+        this.bucketWidthMillis = Math.max(1000L, (accessTokenExpiration + bucketCount - 2) / (bucketCount - 1));
+        this.bloomMask = Integer.highestOneBit(Math.max(bloomBits, 64)) - 1;
+        this.ring = new AtomicReferenceArray<>(bucketCount);
+    }
+
+    /**
+     * Adds a single token id; tokens that have already expired are ignored
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (tokenId == null || expiresAtMillis <= now) {
+            return;
+        }
+
+        long epoch = expiresAtMillis / bucketWidthMillis;
+        if (epoch - now / bucketWidthMillis >= ring.length()) {
+            overflow.put(tokenId, expiresAtMillis);
+            return;
+        }
+        Bucket bucket = bucketFor(epoch);
+        if (bucket == null) {
+            overflow.put(tokenId, expiresAtMillis);
+            return;
+        }
+        bucket.add(tokenId);
+    }
+
+    /**
+     * Rejects every access token of the user issued before now.
+     * Compared in milliseconds against {@link TokenPrincipal#getIssuedAtMillis()}, so a token issued
+     * earlier in the same second is rejected while one issued right after (a re-login) is not.
+     */
+    public void revokeAllForUser(String userId) {
+        revokeAllForUser(userId, System.currentTimeMillis());
+    }
+
+    void revokeAllForUser(String userId, long cutoffMillis) {
+        userCutoffs.merge(userId, cutoffMillis, Math::max);
+    }
+
+    public boolean isRevoked(TokenPrincipal principal) {
+        if (!userCutoffs.isEmpty()) {
+            Long cutoff = userCutoffs.get(principal.getUserId());
+            if (cutoff != null && principal.getIssuedAtMillis() < cutoff) {
+                return true;
+            }
+        }
+
+        String tokenId = principal.getTokenId();
+        if (tokenId == null) {
+            return false;
+        }
+
+        long epoch = principal.getExpiresAtMillis() / bucketWidthMillis;
+        Bucket bucket = ring.get(slot(epoch));
+        if (bucket != null && bucket.epoch == epoch && bucket.mightContain(tokenId) && bucket.ids.contains(tokenId)) {
+            return true;
+        }
+        return !overflow.isEmpty() && overflow.containsKey(tokenId);
+    }
+
+    /**
+     * Drops per-user cutoffs and overflow entries that no longer match any live token.
+     * Ring slots need no sweep; they are replaced when their epoch comes round again.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        userCutoffs.values().removeIf(cutoff -> cutoff + accessTokenExpirationMillis < now);
+        overflow.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    public int size() {
+        long now = System.currentTimeMillis() / bucketWidthMillis;
+        int total = overflow.size();
+        for (int i = 0; i < ring.length(); i++) {
+            Bucket bucket = ring.get(i);
+            if (bucket != null && bucket.epoch >= now) {
+                total += bucket.ids.size();
+            }
+        }
+        return total;
+    }
+
+    private Bucket bucketFor(long epoch) {
+        int slot = slot(epoch);
+        while (true) {
+            Bucket current = ring.get(slot);
+            if (current != null && current.epoch == epoch) {
+                return current;
+            }
+            if (current != null && current.epoch > epoch) {
+                // Only possible if the clock moved backwards; keep the newer bucket intact
+                log.warn("Revocation bucket {} already recycled, falling back to overflow", epoch);
+                return null;
+            }
+            Bucket fresh = new Bucket(epoch, bloomMask + 1);
+            if (ring.compareAndSet(slot, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private int slot(long epoch) {
+        return (int) Math.floorMod(epoch, (long) ring.length());
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private final class Bucket {
+        final long epoch;
+        final AtomicLongArray bits;
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        Bucket(long epoch, int bitCount) {
+            this.epoch = epoch;
+            this.bits = new AtomicLongArray(Math.max(1, bitCount >>> 6));
+        }
+
+        void add(String tokenId) {
+            // Exact set first, so a concurrent reader that sees the Bloom bits also finds the id
+            ids.add(tokenId);
+            int h1 = mix(tokenId.hashCode());
+            int h2 = mix(h1 ^ 0x9e3779b9) | 1;
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                int bit = (h1 + i * h2) & bloomMask;
+                long mask = 1L << bit;
+                int word = bit >>> 6;
+                long value;
+                while (((value = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, value, value | mask)) {
+                    // retry until the bit is set
+                }
+            }
+        }
+
+        boolean mightContain(String tokenId) {
+            int h1 = mix(tokenId.hashCode());
+            int h2 = mix(h1 ^ 0x9e3779b9) | 1;
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                int bit = (h1 + i * h2) & bloomMask;
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -3,11 +3,14 @@ package com.hirepro.auth.service;
 import com.hirepro.auth.dto.AuthResponse;
 import com.hirepro.auth.dto.LoginRequest;
 import com.hirepro.auth.dto.RegisterRequest;
+import com.hirepro.auth.security.TokenPrincipal;
 import com.hirepro.users.dto.AuthUserResponse;
 
 public interface AuthService {
     AuthResponse login(LoginRequest request);
     AuthUserResponse register(RegisterRequest request);
     AuthResponse refreshToken(String refreshToken);
-    AuthUserResponse getCurrentUser(String username);
+    AuthUserResponse getCurrentUser(TokenPrincipal principal);
+    void logout(String accessToken, String refreshToken);
+    void revokeAllUserTokens(String userId);
 }
\ No newline at end of file
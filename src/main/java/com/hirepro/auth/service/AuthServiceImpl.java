@@ -2,10 +2,16 @@ package com.hirepro.auth.service;
 
 import com.hirepro.auth.dto.AuthResponse;
 import com.hirepro.auth.dto.LoginRequest;
+import com.hirepro.auth.dto.RefreshTokenSession;
 import com.hirepro.auth.dto.RegisterRequest;
 import com.hirepro.auth.entity.RefreshToken;
 import com.hirepro.auth.repository.RefreshTokenRepository;
+import com.hirepro.auth.security.AuthUserDetails;
+import com.hirepro.auth.security.SlidingTokenRenewer;
+import com.hirepro.auth.security.TokenPrincipal;
+import com.hirepro.auth.security.TokenRevocationList;
 import com.hirepro.auth.util.JwtUtil;
+import com.hirepro.auth.util.TokenHashUtil;
 import com.hirepro.common.exception.BadRequestException;
 import com.hirepro.common.exception.ResourceNotFoundException;
 import com.hirepro.common.exception.UnauthorizedException;
@@ -13,15 +19,27 @@ import com.hirepro.common.util.UlidGenerator;
 import com.hirepro.users.dto.AuthUserResponse;
 import com.hirepro.users.entity.AuthUser;
 import com.hirepro.users.repository.AuthUserRepository;
+import com.hirepro.users.service.LastLoginBuffer;
+import com.hirepro.users.service.UserProfileCache;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class AuthServiceImpl implements AuthService {
@@ -31,72 +49,90 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
+    private final TransactionTemplate transactionTemplate;
+    private final LastLoginBuffer lastLoginBuffer;
+    private final TokenRevocationList tokenRevocationList;
+    private final SlidingTokenRenewer slidingTokenRenewer;
+    private final UserProfileCache userProfileCache;
+    private final long refreshGraceMillis;
+
+    // Rotations keyed by the hash of the refresh token they consumed, kept for the grace window
+    private final Map<String, Rotation> recentRotations = new ConcurrentHashMap<>();
 
     public AuthServiceImpl(AuthUserRepository authUserRepository,
                            RefreshTokenRepository refreshTokenRepository,
                            PasswordEncoder passwordEncoder,
                            JwtUtil jwtUtil,
-                           AuthenticationManager authenticationManager) {
+                           AuthenticationManager authenticationManager,
+                           PlatformTransactionManager transactionManager,
+                           LastLoginBuffer lastLoginBuffer,
+                           TokenRevocationList tokenRevocationList,
+                           SlidingTokenRenewer slidingTokenRenewer,
+                           UserProfileCache userProfileCache,
+                           @Value("${app.auth.refresh-grace-millis:10000}") long refreshGraceMillis) {
         this.authUserRepository = authUserRepository;
         this.refreshTokenRepository = refreshTokenRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
         this.authenticationManager = authenticationManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lastLoginBuffer = lastLoginBuffer;
+        this.tokenRevocationList = tokenRevocationList;
+        this.slidingTokenRenewer = slidingTokenRenewer;
+        this.userProfileCache = userProfileCache;
+        this.refreshGraceMillis = refreshGraceMillis;
     }
 
+    /**
+     * No transaction spans the whole login: the BCrypt check and token signing run while
+     * no JDBC connection is held, and the refresh token is written in one short transaction.
+     */
     @Override
-    @Transactional
     public AuthResponse login(LoginRequest request) {
+        AuthUserDetails user;
         try {
-            // Authenticate user
+            // Loads the user (short read) and verifies the password; also rejects non-ACTIVE accounts
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             request.getUsername(),
                             request.getPassword()
                     )
             );
+            user = (AuthUserDetails) authentication.getPrincipal();
+        } catch (AuthenticationException e) {
+            throw new UnauthorizedException("Invalid username or password");
+        }
 
-            // Get user details
-            AuthUser user = authUserRepository.findByEmailAndNotDeleted(request.getUsername())
-                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-            // Check account status
-            if (!"ACTIVE".equals(user.getStatus())) {
-                throw new UnauthorizedException("Account is not active. Status: " + user.getStatus());
-            }
-
-            // Update last login
-            user.setLastLogin(LocalDateTime.now());
-            authUserRepository.save(user);
-
-            // Generate tokens
-            String accessToken = jwtUtil.generateAccessToken(user.getId(), user.getEmail(), user.getRole());
-            String refreshToken = jwtUtil.generateRefreshToken(user.getId(), user.getEmail());
+        // Generate tokens before opening the write transaction
+        String accessToken = jwtUtil.generateAccessToken(user.getUserId(), user.getUsername(), user.getRole(),
+                user.getClientId());
+        String refreshToken = jwtUtil.generateRefreshToken(user.getUserId(), user.getUsername());
 
-            // Save refresh token
-            saveRefreshToken(user.getId(), refreshToken);
+        // Save refresh token
+        transactionTemplate.executeWithoutResult(status -> saveRefreshToken(user.getUserId(), refreshToken));
 
-            return new AuthResponse(accessToken, refreshToken, user.getEmail(), user.getRole(),
-                    jwtUtil.getAccessTokenExpiration() / 1000);
+        // Update last login (written behind in batches, off the request path)
+        lastLoginBuffer.record(user.getUserId(), LocalDateTime.now());
 
-        } catch (AuthenticationException e) {
-            throw new UnauthorizedException("Invalid username or password");
-        }
+        return new AuthResponse(accessToken, refreshToken, user.getUsername(), user.getRole(),
+                jwtUtil.getAccessTokenExpiration() / 1000);
     }
 
     @Override
-    @Transactional
     public AuthUserResponse register(RegisterRequest request) {
-        // Check if email exists
+        // Check if email exists before paying for a password hash
         if (authUserRepository.existsByEmail(request.getEmail())) {
             throw new BadRequestException("Email already exists");
         }
 
+        // Hash outside of any transaction so no connection is held during BCrypt
+        String encodedPassword = passwordEncoder.encode(request.getPassword());
+
         // Create new user
         AuthUser user = new AuthUser();
         user.setId(UlidGenerator.generate());
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(encodedPassword);
         user.setRole(request.getRole().name());
         user.setStatus("ACTIVE");
         user.setCreatedBy("SELF");
@@ -107,53 +143,138 @@ public class AuthServiceImpl implements AuthService {
             user.setEmployeeType(null);
         }
 
-        AuthUser savedUser = authUserRepository.save(user);
-        return mapToUserResponse(savedUser);
+        try {
+            AuthUser savedUser = authUserRepository.save(user);
+            return mapToUserResponse(savedUser);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent registration won the unique email constraint
+            throw new BadRequestException("Email already exists");
+        }
     }
 
+    /**
+     * Rotates the refresh token in place. Tabs that refresh concurrently with the same token share
+     * one rotation: the first request does the work and the others, including any that arrive within
+     * {@code app.auth.refresh-grace-millis}, get the same new token pair without touching the database.
+     */
     @Override
-    @Transactional
     public AuthResponse refreshToken(String refreshToken) {
-        // Validate refresh token
-        RefreshToken token = refreshTokenRepository.findValidToken(refreshToken, LocalDateTime.now())
-                .orElseThrow(() -> new UnauthorizedException("Invalid or expired refresh token"));
+        slidingTokenRenewer.recordExplicitRefresh();
+        String key = TokenHashUtil.sha256Key(refreshToken);
+        long now = System.currentTimeMillis();
 
-        // Get user
-        AuthUser user = authUserRepository.findByIdAndNotDeleted(token.getUserId())
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        Rotation rotation = new Rotation(now + refreshGraceMillis);
+        Rotation existing = recentRotations.putIfAbsent(key, rotation);
+        if (existing != null) {
+            if (existing.expiresAtMillis > now) {
+                return existing.await();
+            }
+            // Grace window is over; the old token is no longer accepted by the database either
+            recentRotations.remove(key, existing);
+            return refreshToken(refreshToken);
+        }
 
-        // Check account status
-        if (!"ACTIVE".equals(user.getStatus())) {
-            throw new UnauthorizedException("Account is not active");
+        try {
+            AuthResponse response = rotate(refreshToken, rotation);
+            rotation.complete(response);
+            return copyOf(response);
+        } catch (RuntimeException e) {
+            recentRotations.remove(key, rotation);
+            rotation.fail(e);
+            throw e;
         }
+    }
 
-        // Generate new access token
-        String newAccessToken = jwtUtil.generateAccessToken(user.getId(), user.getEmail(), user.getRole());
+    @Scheduled(fixedDelayString = "${app.auth.refresh-grace-millis:10000}")
+    public void purgeRecentRotations() {
+        long now = System.currentTimeMillis();
+        recentRotations.values().removeIf(rotation -> rotation.expiresAtMillis <= now);
+    }
 
-        // Optionally rotate refresh token for better security
-        boolean rotateRefreshToken = true; // This could be configurable
-        String newRefreshToken = null;
+    /**
+     * One query to load the token with its owner and one compare-and-swap UPDATE;
+     * tokens are signed before the write so the transaction only covers that statement.
+     */
+    private AuthResponse rotate(String refreshToken, Rotation rotation) {
+        byte[] oldHash = TokenHashUtil.sha256(refreshToken);
+        RefreshTokenSession session = refreshTokenRepository.findValidSession(oldHash, LocalDateTime.now())
+                .orElseThrow(() -> new UnauthorizedException("Invalid or expired refresh token"));
+
+        // Check account status
+        if (!"ACTIVE".equals(session.getStatus())) {
+            throw new UnauthorizedException("Account is not active");
+        }
 
-        if (rotateRefreshToken) {
-            // Revoke old token
-            token.setRevoked(true);
-            refreshTokenRepository.save(token);
+        String newAccessToken = jwtUtil.generateAccessToken(session.getUserId(), session.getEmail(), session.getRole(),
+                session.getClientId());
+        String newRefreshToken = jwtUtil.generateRefreshToken(session.getUserId(), session.getEmail());
+        byte[] newHash = TokenHashUtil.sha256(newRefreshToken);
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(jwtUtil.getRefreshTokenExpiration() / 1000);
 
-            // Generate new refresh token
-            newRefreshToken = jwtUtil.generateRefreshToken(user.getId(), user.getEmail());
-            saveRefreshToken(user.getId(), newRefreshToken);
+        Integer updated = transactionTemplate.execute(status ->
+                refreshTokenRepository.rotate(session.getTokenId(), oldHash, newHash, expiresAt));
+        if (updated == null || updated == 0) {
+            // Rotated by another instance, or revoked, between the read and the update
+            throw new UnauthorizedException("Invalid or expired refresh token");
         }
 
-        return new AuthResponse(newAccessToken, newRefreshToken, user.getEmail(), user.getRole(),
+        rotation.userId = session.getUserId();
+        rotation.refreshTokenKey = TokenHashUtil.sha256Key(newRefreshToken);
+        return new AuthResponse(newAccessToken, newRefreshToken, session.getEmail(), session.getRole(),
                 jwtUtil.getAccessTokenExpiration() / 1000);
     }
 
+    /**
+     * Served from the profile cache by the user id in the token; the database is only
+     * read on a miss, by primary key
+     */
+    @Override
+    public AuthUserResponse getCurrentUser(TokenPrincipal principal) {
+        return userProfileCache.get(principal.getUserId(), userId -> authUserRepository.findByIdAndNotDeleted(userId)
+                .map(this::mapToUserResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found")));
+    }
+
+    /**
+     * Revokes the presented access token, and those linked to it by sliding renewal, until they expire,
+     * and the refresh token in the database.
+     * Tokens that are already invalid are ignored, so logout always succeeds.
+     */
     @Override
-    public AuthUserResponse getCurrentUser(String email) {
-        AuthUser user = authUserRepository.findByEmailAndNotDeleted(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    @Transactional
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            try {
+                TokenPrincipal principal = jwtUtil.parseVerifiedToken(accessToken);
+                tokenRevocationList.revoke(principal.getTokenId(), principal.getExpiresAtMillis());
 
-        return mapToUserResponse(user);
+                // Tokens linked by sliding renewal would otherwise stay valid until they expire
+                slidingTokenRenewer.removeRenewalChain(principal.getTokenId())
+                        .forEach(tokenRevocationList::revoke);
+            } catch (JwtException e) {
+                // Expired or forged: nothing left to revoke
+            }
+        }
+
+        if (refreshToken != null) {
+            refreshTokenRepository.revokeByTokenHash(TokenHashUtil.sha256(refreshToken));
+
+            // The token being logged out must not be handed out again to a replay of its predecessor
+            String refreshTokenKey = TokenHashUtil.sha256Key(refreshToken);
+            recentRotations.values().removeIf(rotation -> refreshTokenKey.equals(rotation.refreshTokenKey));
+        }
+    }
+
+    /**
+     * Ends every session of the user: refresh tokens are revoked in the database and
+     * access tokens issued so far are rejected by the filter until they expire.
+     */
+    @Override
+    @Transactional
+    public void revokeAllUserTokens(String userId) {
+        refreshTokenRepository.revokeAllUserTokens(userId);
+        tokenRevocationList.revokeAllForUser(userId);
+        recentRotations.values().removeIf(rotation -> userId.equals(rotation.userId));
     }
 
     private void saveRefreshToken(String userId, String token) {
@@ -162,7 +283,7 @@ public class AuthServiceImpl implements AuthService {
 
         // Create new refresh token
         LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(jwtUtil.getRefreshTokenExpiration() / 1000);
-        RefreshToken refreshToken = new RefreshToken(userId, token, expiresAt);
+        RefreshToken refreshToken = new RefreshToken(userId, TokenHashUtil.sha256(token), expiresAt);
         refreshTokenRepository.save(refreshToken);
     }
 
@@ -181,4 +302,43 @@ public class AuthServiceImpl implements AuthService {
         response.setUpdatedAt(user.getUpdatedAt());
         return response;
     }
-}
\ No newline at end of file
+
+    private static AuthResponse copyOf(AuthResponse response) {
+        // Callers clear the token fields after writing cookies, so each caller gets its own instance
+        return new AuthResponse(response.getAccessToken(), response.getRefreshToken(), response.getEmail(),
+                response.getRole(), response.getExpiresIn());
+    }
+
+    /**
+     * Result of one refresh-token rotation, shared by concurrent requests presenting the same token
+     */
+    private static final class Rotation {
+        private final long expiresAtMillis;
+        private final CompletableFuture<AuthResponse> result = new CompletableFuture<>();
+        private volatile String userId;
+        private volatile String refreshTokenKey;
+
+        Rotation(long expiresAtMillis) {
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        void complete(AuthResponse response) {
+            result.complete(response);
+        }
+
+        void fail(RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+
+        AuthResponse await() {
+            try {
+                return copyOf(result.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
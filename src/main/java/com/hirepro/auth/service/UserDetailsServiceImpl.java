@@ -1,19 +1,22 @@
 package com.hirepro.auth.service;
 
+import com.hirepro.auth.security.AuthUserDetails;
 import com.hirepro.users.entity.AuthUser;
 import com.hirepro.users.repository.AuthUserRepository;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.Collections;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final AuthUserRepository authUserRepository;
 
@@ -26,17 +29,29 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         AuthUser user = authUserRepository.findByEmailAndNotDeleted(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
-        return new org.springframework.security.core.userdetails.User(
+        return new AuthUserDetails(
+                user.getId(),
+                user.getRole(),
+                user.getClientId(),
                 user.getEmail(),
                 user.getPassword(),
                 isAccountActive(user),
-                true,
-                true,
                 isAccountNotLocked(user),
                 getAuthorities(user)
         );
     }
 
+    /**
+     * Stores a password rehashed with the current BCrypt cost after a successful login.
+     * Uses a targeted UPDATE so updated_at and other columns are left untouched.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        authUserRepository.updatePasswordByEmail(user.getUsername(), newPassword);
+        return ((AuthUserDetails) user).withPassword(newPassword);
+    }
+
     private boolean isAccountActive(AuthUser user) {
         return "ACTIVE".equals(user.getStatus());
     }
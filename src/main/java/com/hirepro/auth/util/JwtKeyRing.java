@@ -0,0 +1,342 @@
+package com.hirepro.auth.util;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the signing and verification keys for JWTs.
+ * Keys are derived and the parser is built once at startup; tokens carry a {@code kid} header
+ * that selects the verification key with a single map lookup, so rotating {@code jwt.secret}
+ * keeps previously issued tokens valid while the old key is listed in {@code jwt.previous-keys}.
+ *
+ * <p>With {@code jwt.signing-algorithm} set to EdDSA or ES256, tokens are signed with a private key
+ * and the matching public key is published as a JWKS so other services can verify tokens locally.
+ * HMAC keys stay in the ring for verification, so switching modes does not invalidate live tokens.
+ * Public keys listed in {@code jwt.asymmetric.previous-public-keys} are accepted and published as well,
+ * which covers both sides of a key-pair rotation (see {@link #parsePreviousPublicKeys}).</p>
+ */
+@Component
+public class JwtKeyRing {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private final String activeKeyId;
+    private final Key signingKey;
+    private final Key legacyKey;
+    private final Map<String, Key> verificationKeys;
+    private final List<Map<String, Object>> publicJwks;
+    private final JwtParser parser;
+
+    public JwtKeyRing(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.key-id:primary}") String keyId,
+                      @Value("${jwt.previous-keys:}") String previousKeys,
+                      @Value("${jwt.signing-algorithm:HMAC}") String signingAlgorithm,
+                      @Value("${jwt.asymmetric.key-id:signing-key}") String asymmetricKeyId,
+                      @Value("${jwt.asymmetric.private-key:}") String privateKeyPem,
+                      @Value("${jwt.asymmetric.public-key:}") String publicKeyPem,
+                      @Value("${jwt.asymmetric.previous-public-keys:}") String previousPublicKeys,
+                      @Value("${jwt.asymmetric.allow-ephemeral-key:false}") boolean allowEphemeralKey) {
+
+        Map<String, Key> keys = new LinkedHashMap<>();
+        SecretKey hmacKey = deriveKey(secret);
+        keys.put(keyId, hmacKey);
+        keys.putAll(parsePreviousKeys(previousKeys, keyId));
+        this.legacyKey = hmacKey;
+
+        SigningAlgorithm algorithm = SigningAlgorithm.from(signingAlgorithm);
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        if (algorithm == SigningAlgorithm.HMAC) {
+            this.activeKeyId = keyId;
+            this.signingKey = hmacKey;
+        } else {
+            if (keys.containsKey(asymmetricKeyId)) {
+                throw new IllegalStateException("jwt.asymmetric.key-id must differ from HMAC key ids: " + asymmetricKeyId);
+            }
+            KeyPair keyPair = loadOrGenerateKeyPair(algorithm, privateKeyPem, publicKeyPem, allowEphemeralKey);
+            keys.put(asymmetricKeyId, keyPair.getPublic());
+            jwks.add(toJwk(asymmetricKeyId, keyPair.getPublic()));
+            this.activeKeyId = asymmetricKeyId;
+            this.signingKey = keyPair.getPrivate();
+        }
+
+        for (Map.Entry<String, PublicKey> entry : parsePreviousPublicKeys(previousPublicKeys).entrySet()) {
+            if (keys.containsKey(entry.getKey())) {
+                throw new IllegalStateException("jwt.asymmetric.previous-public-keys must not reuse a key id: "
+                        + entry.getKey());
+            }
+            keys.put(entry.getKey(), entry.getValue());
+            jwks.add(toJwk(entry.getKey(), entry.getValue()));
+        }
+        this.publicJwks = Collections.unmodifiableList(jwks);
+
+        this.verificationKeys = Collections.unmodifiableMap(keys);
+        this.parser = Jwts.parser()
+                .keyLocator(new KeyIdLocator())
+                .build();
+
+        log.info("JWT key ring initialised: algorithm {}, active kid '{}', {} verification key(s)",
+                algorithm, activeKeyId, verificationKeys.size());
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public Key getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * Shared, thread-safe parser that resolves the verification key from the token header
+     */
+    public JwtParser getParser() {
+        return parser;
+    }
+
+    /**
+     * Public keys in JWK form; empty when tokens are HMAC-signed
+     */
+    public List<Map<String, Object>> getPublicJwks() {
+        return publicJwks;
+    }
+
+    private static SecretKey deriveKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses retired keys in the form {@code kid1=secret1,kid2=secret2}
+     */
+    private static Map<String, SecretKey> parsePreviousKeys(String previousKeys, String activeKeyId) {
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        if (previousKeys == null || previousKeys.isBlank()) {
+            return keys;
+        }
+
+        for (String entry : previousKeys.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf('=');
+            if (separator <= 0 || separator == trimmed.length() - 1) {
+                throw new IllegalStateException("Invalid jwt.previous-keys entry, expected kid=secret");
+            }
+            String kid = trimmed.substring(0, separator).trim();
+            if (kid.equals(activeKeyId)) {
+                throw new IllegalStateException("jwt.previous-keys must not reuse the active key id: " + kid);
+            }
+            keys.put(kid, deriveKey(trimmed.substring(separator + 1).trim()));
+        }
+        return keys;
+    }
+
+    /**
+     * Parses public keys in the form {@code kid1=PEM1,kid2=PEM2} (PEM or base64 DER, Ed25519 or P-256).
+     * During a rotation this lists the retired key, so tokens it signed keep verifying until they expire,
+     * and, one JWKS cache lifetime before the switch, the upcoming key, so other services already have it.
+     */
+    private static Map<String, PublicKey> parsePreviousPublicKeys(String previousPublicKeys) {
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        if (previousPublicKeys == null || previousPublicKeys.isBlank()) {
+            return keys;
+        }
+
+        for (String entry : previousPublicKeys.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf('=');
+            if (separator <= 0 || separator == trimmed.length() - 1) {
+                throw new IllegalStateException("Invalid jwt.asymmetric.previous-public-keys entry, expected kid=PEM");
+            }
+            String kid = trimmed.substring(0, separator).trim();
+            keys.put(kid, decodePublicKey(kid, trimmed.substring(separator + 1)));
+        }
+        return keys;
+    }
+
+    private static PublicKey decodePublicKey(String kid, String pem) {
+        X509EncodedKeySpec spec;
+        try {
+            spec = new X509EncodedKeySpec(decodePem(pem));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid public key for kid '" + kid + "'", e);
+        }
+        for (SigningAlgorithm algorithm : List.of(SigningAlgorithm.EDDSA, SigningAlgorithm.ES256)) {
+            try {
+                PublicKey key = KeyFactory.getInstance(algorithm.keyFactoryAlgorithm).generatePublic(spec);
+                if (key instanceof ECPublicKey ecKey && ecKey.getParams().getCurve().getField().getFieldSize() != 256) {
+                    break;
+                }
+                return key;
+            } catch (GeneralSecurityException e) {
+                // Not this key type; try the next one
+            }
+        }
+        throw new IllegalStateException("Public key for kid '" + kid + "' is neither Ed25519 nor EC P-256");
+    }
+
+    /**
+     * Loads the configured key pair. An ephemeral pair is only generated when
+     * {@code jwt.asymmetric.allow-ephemeral-key} is set, since its tokens do not survive a restart
+     * and cannot be verified by other instances.
+     */
+    private static KeyPair loadOrGenerateKeyPair(SigningAlgorithm algorithm, String privateKeyPem, String publicKeyPem,
+                                                 boolean allowEphemeralKey) {
+        try {
+            if (privateKeyPem.isBlank() || publicKeyPem.isBlank()) {
+                if (!allowEphemeralKey) {
+                    throw new IllegalStateException("jwt.signing-algorithm is " + algorithm
+                            + " but jwt.asymmetric.private-key / public-key are not configured; "
+                            + "set jwt.asymmetric.allow-ephemeral-key=true to use a throwaway pair in development");
+                }
+                log.warn("No {} key pair configured (jwt.asymmetric.private-key / public-key); "
+                        + "generated an ephemeral pair. Tokens will not survive a restart or verify across instances.",
+                        algorithm);
+                return generateKeyPair(algorithm);
+            }
+
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.keyFactoryAlgorithm);
+            PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(privateKeyPem)));
+            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(publicKeyPem)));
+            return new KeyPair(publicKey, privateKey);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid " + algorithm + " key pair configuration", e);
+        }
+    }
+
+    private static KeyPair generateKeyPair(SigningAlgorithm algorithm) throws GeneralSecurityException {
+        if (algorithm == SigningAlgorithm.ES256) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        }
+        return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+    }
+
+    /**
+     * Accepts either PEM (with BEGIN/END lines) or bare base64 DER
+     */
+    private static byte[] decodePem(String pem) {
+        String base64 = pem.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    private static Map<String, Object> toJwk(String kid, PublicKey publicKey) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        SigningAlgorithm algorithm;
+
+        if (publicKey instanceof ECPublicKey ecKey) {
+            algorithm = SigningAlgorithm.ES256;
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", encoder.encodeToString(toUnsigned(ecKey.getW().getAffineX(), 32)));
+            jwk.put("y", encoder.encodeToString(toUnsigned(ecKey.getW().getAffineY(), 32)));
+        } else {
+            // X.509 encoding of an Ed25519 key ends with the 32-byte raw public key
+            algorithm = SigningAlgorithm.EDDSA;
+            byte[] encoded = publicKey.getEncoded();
+            jwk.put("kty", "OKP");
+            jwk.put("crv", "Ed25519");
+            jwk.put("x", encoder.encodeToString(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)));
+        }
+
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.jwaName);
+        return Collections.unmodifiableMap(jwk);
+    }
+
+    private static byte[] toUnsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == length) {
+            return bytes;
+        }
+        byte[] result = new byte[length];
+        if (bytes.length > length) {
+            System.arraycopy(bytes, bytes.length - length, result, 0, length);
+        } else {
+            System.arraycopy(bytes, 0, result, length - bytes.length, bytes.length);
+        }
+        return result;
+    }
+
+    private enum SigningAlgorithm {
+        HMAC("HmacSHA256", "HMAC"),
+        EDDSA("Ed25519", "EdDSA"),
+        ES256("EC", "ES256");
+
+        private final String keyFactoryAlgorithm;
+        private final String jwaName;
+
+        SigningAlgorithm(String keyFactoryAlgorithm, String jwaName) {
+            this.keyFactoryAlgorithm = keyFactoryAlgorithm;
+            this.jwaName = jwaName;
+        }
+
+        static SigningAlgorithm from(String value) {
+            // HS256/HS384/HS512 all map to HMAC; the exact variant follows the secret length
+            if (value.toUpperCase().startsWith("HS")) {
+                return HMAC;
+            }
+            for (SigningAlgorithm algorithm : values()) {
+                if (algorithm.jwaName.equalsIgnoreCase(value) || algorithm.name().equalsIgnoreCase(value)) {
+                    return algorithm;
+                }
+            }
+            throw new IllegalStateException("Unsupported jwt.signing-algorithm: " + value);
+        }
+    }
+
+    private class KeyIdLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            String kid = header.getKeyId();
+
+            // Tokens issued before key ids were introduced were signed with the primary secret
+            if (kid == null) {
+                return legacyKey;
+            }
+
+            Key key = verificationKeys.get(kid);
+            if (key == null) {
+                throw new JwtException("Unknown signing key id: " + kid);
+            }
+            return key;
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.hirepro.auth.util;
 
+import com.hirepro.auth.enums.AccessTokenFormat;
+import com.hirepro.auth.enums.RefreshTokenFormat;
+import com.hirepro.auth.security.TokenPrincipal;
+import com.hirepro.common.util.UlidGenerator;
+import com.hirepro.roles.service.RolePermissionRegistry;
+import com.hirepro.users.enums.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -16,9 +23,6 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
-
     @Value("${jwt.access-token-expiration}")
     private Long accessTokenExpiration;
 
@@ -28,37 +32,157 @@ public class JwtUtil {
     @Value("${jwt.issuer}")
     private String issuer;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Value("${jwt.refresh-token-format:JWT}")
+    private RefreshTokenFormat refreshTokenFormat;
+
+    @Value("${jwt.access-token-format:STANDARD}")
+    private AccessTokenFormat accessTokenFormat;
+
+    @Value("${jwt.embed-permissions:false}")
+    private boolean embedPermissions;
+
+    private static final int OPAQUE_TOKEN_BYTES = 32;
+    private static final String AUTH_TIME_CLAIM = "auth_time";
+
+    // Compact profile claim names; the role is sent as its UserRole ordinal
+    private static final String COMPACT_USER_ID = "uid";
+    private static final String COMPACT_ROLE = "rl";
+    private static final String COMPACT_TENANT = "tid";
+    private static final String COMPACT_AUTH_TIME = "at";
+    private static final UserRole[] ROLE_CODES = UserRole.values();
+
+    // Optional permission mask and the grant-table version it was computed from
+    private static final String PERMISSION_MASK_CLAIM = "pm";
+    private static final String PERMISSION_VERSION_CLAIM = "pv";
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final JwtKeyRing keyRing;
+    private final RolePermissionRegistry rolePermissionRegistry;
+
+    public JwtUtil(JwtKeyRing keyRing, RolePermissionRegistry rolePermissionRegistry) {
+        this.keyRing = keyRing;
+        this.rolePermissionRegistry = rolePermissionRegistry;
+    }
+
+    public String generateAccessToken(String userId, String username, String role, String clientId) {
+        return generateAccessToken(accessTokenFormat, userId, username, role, clientId, System.currentTimeMillis() / 1000);
     }
 
-    public String generateAccessToken(String userId, String username, String role) {
+    /**
+     * Issues a fresh access token for the same principal with its current role and client id,
+     * keeping the original auth_time so sliding renewal cannot extend a session indefinitely
+     */
+    public String renewAccessToken(TokenPrincipal principal, String role, String clientId) {
+        return generateAccessToken(accessTokenFormat, principal.getUserId(), principal.getUsername(),
+                role, clientId, principal.getAuthTimeMillis() / 1000);
+    }
+
+    /**
+     * Issues an access token in the given claim profile. Parsing accepts both profiles regardless of
+     * {@code jwt.access-token-format}, so the format can be switched during a rolling deploy.
+     */
+    public String generateAccessToken(AccessTokenFormat format, String userId, String username, String role,
+                                      String clientId, long authTimeSeconds) {
+        Integer roleCode = roleCode(role);
         Map<String, Object> claims = new HashMap<>();
+        if (embedPermissions) {
+            claims.put(PERMISSION_MASK_CLAIM, rolePermissionRegistry.maskFor(role));
+            claims.put(PERMISSION_VERSION_CLAIM, rolePermissionRegistry.getVersion());
+        }
+
+        if (format == AccessTokenFormat.COMPACT && roleCode != null) {
+            // No username (it is the subject) and no issuer; about a quarter smaller than the standard profile
+            claims.put(COMPACT_USER_ID, userId);
+            claims.put(COMPACT_ROLE, roleCode);
+            if (clientId != null) {
+                claims.put(COMPACT_TENANT, clientId);
+            }
+            claims.put(COMPACT_AUTH_TIME, authTimeSeconds);
+            return createToken(claims, username, accessTokenExpiration, false);
+        }
+
         claims.put("userId", userId);
         claims.put("username", username);
         claims.put("role", role);
-        return createToken(claims, username, accessTokenExpiration);
+        if (clientId != null) {
+            claims.put("clientId", clientId);
+        }
+        claims.put(AUTH_TIME_CLAIM, authTimeSeconds);
+        return createToken(claims, username, accessTokenExpiration, true);
     }
 
+    /**
+     * Refresh tokens are only ever looked up by digest in refresh_tokens, so in OPAQUE mode
+     * they are 256-bit random values (43 chars) with no signing cost.
+     */
     public String generateRefreshToken(String userId, String username) {
+        if (refreshTokenFormat == RefreshTokenFormat.OPAQUE) {
+            return generateOpaqueToken();
+        }
+
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
-        return createToken(claims, username, refreshTokenExpiration);
+        return createToken(claims, username, refreshTokenExpiration, true);
+    }
+
+    private String generateOpaqueToken() {
+        byte[] bytes = new byte[OPAQUE_TOKEN_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
-    private String createToken(Map<String, Object> claims, String subject, Long expiration) {
+    private String createToken(Map<String, Object> claims, String subject, Long expiration, boolean withIssuer) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .header().keyId(keyRing.getActiveKeyId()).and()
                 .claims(claims)
+                .id(UlidGenerator.generate(now.getTime()))
                 .subject(subject)
-                .issuer(issuer)
                 .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+                .expiration(expiryDate);
+        if (withIssuer) {
+            builder.issuer(issuer);
+        }
+        return builder.signWith(keyRing.getSigningKey()).compact();
+    }
+
+    /**
+     * Verifies the token signature and expiry once and returns its claims as an immutable principal.
+     * Throws a JwtException if the token is invalid or expired.
+     */
+    public TokenPrincipal parseVerifiedToken(String token) {
+        Claims claims = extractAllClaims(token);
+        long issuedAt = issuedAtMillis(claims);
+        boolean compact = claims.containsKey(COMPACT_ROLE);
+        Number authTime = claims.get(compact ? COMPACT_AUTH_TIME : AUTH_TIME_CLAIM, Number.class);
+        Number permissionMask = claims.get(PERMISSION_MASK_CLAIM, Number.class);
+        Number permissionVersion = claims.get(PERMISSION_VERSION_CLAIM, Number.class);
+        return new TokenPrincipal(
+                claims.getId(),
+                userIdOf(claims),
+                claims.getSubject(),
+                roleOf(claims),
+                claims.get(compact ? COMPACT_TENANT : "clientId", String.class),
+                issuedAt,
+                authTime != null ? authTime.longValue() * 1000 : issuedAt,
+                claims.getExpiration().getTime(),
+                permissionMask != null ? permissionMask.longValue() : 0L,
+                permissionMask != null && permissionVersion != null
+                        ? permissionVersion.longValue() : TokenPrincipal.NO_PERMISSION_VERSION
+        );
+    }
+
+    /**
+     * Issue time with millisecond precision. {@code iat} only has seconds, so the time is taken from
+     * the ULID {@code jti}, which is generated from the same clock reading; tokens without one fall
+     * back to {@code iat}.
+     */
+    private static long issuedAtMillis(Claims claims) {
+        long iat = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+        long idTime = UlidGenerator.timestampOf(claims.getId());
+        return idTime >= iat && idTime < iat + 1000 ? idTime : iat;
     }
 
     public String extractUsername(String token) {
@@ -66,11 +190,11 @@ public class JwtUtil {
     }
 
     public String extractUserId(String token) {
-        return extractClaim(token, claims -> claims.get("userId", String.class));
+        return extractClaim(token, JwtUtil::userIdOf);
     }
 
     public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
+        return extractClaim(token, JwtUtil::roleOf);
     }
 
     public Date extractExpiration(String token) {
@@ -83,9 +207,7 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return keyRing.getParser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -99,6 +221,37 @@ public class JwtUtil {
         return (extractedUsername.equals(username) && !isTokenExpired(token));
     }
 
+    private static String userIdOf(Claims claims) {
+        String userId = claims.get(COMPACT_USER_ID, String.class);
+        return userId != null ? userId : claims.get("userId", String.class);
+    }
+
+    private static String roleOf(Claims claims) {
+        Number code = claims.get(COMPACT_ROLE, Number.class);
+        if (code == null) {
+            return claims.get("role", String.class);
+        }
+        int ordinal = code.intValue();
+        if (ordinal < 0 || ordinal >= ROLE_CODES.length) {
+            throw new JwtException("Unknown role code: " + ordinal);
+        }
+        return ROLE_CODES[ordinal].name();
+    }
+
+    /**
+     * Role code for the compact profile, or null for roles outside {@link UserRole}
+     * (such tokens fall back to the standard profile). New roles must be appended to
+     * the enum so existing codes keep their meaning.
+     */
+    private static Integer roleCode(String role) {
+        for (UserRole userRole : ROLE_CODES) {
+            if (userRole.name().equals(role)) {
+                return userRole.ordinal();
+            }
+        }
+        return null;
+    }
+
     public Long getAccessTokenExpiration() {
         return accessTokenExpiration;
     }
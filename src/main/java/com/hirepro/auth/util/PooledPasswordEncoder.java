@@ -0,0 +1,193 @@
+package com.hirepro.auth.util;
+
+import com.hirepro.common.exception.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt password encoder that runs hashing and verification on a dedicated, CPU-sized pool.
+ * A login burst can therefore use at most {@code poolSize} cores; once the bounded queue is
+ * full, further requests are rejected with a 503 instead of piling up on request threads.
+ *
+ * <p>The timeout only bounds how long the caller waits. BCrypt is not interruptible, so a hash that
+ * has already started keeps its pool thread until it finishes and its result is discarded; only
+ * work still waiting in the queue is dropped. {@link #snapshot()} counts the two cases separately,
+ * since abandoned hashes still consume pool capacity.</p>
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(PooledPasswordEncoder.class);
+
+    private static final String CALIBRATION_SAMPLE = "calibration-sample-password";
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final int strength;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOutInQueue = new LongAdder();
+    private final LongAdder timedOutRunning = new LongAdder();
+
+    public PooledPasswordEncoder(int strength, int poolSize, int queueCapacity, long timeoutMillis) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        log.info("Password hashing pool started: bcrypt strength {}, {} thread(s), queue capacity {}",
+                strength, poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * True when the stored hash uses a lower cost than the current one,
+     * which lets the authentication provider rehash it after a successful login
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Pool counters. {@code timedOutRunning} hashes ran to completion after the caller gave up,
+     * so they used pool time without serving a request; {@code timedOutInQueue} never ran.
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("strength", strength);
+        map.put("poolSize", executor.getMaximumPoolSize());
+        map.put("activeThreads", executor.getActiveCount());
+        map.put("queued", executor.getQueue().size());
+        map.put("completed", completed.sum());
+        map.put("rejected", rejected.sum());
+        map.put("timedOutInQueue", timedOutInQueue.sum());
+        map.put("timedOutRunning", timedOutRunning.sum());
+        return map;
+    }
+
+    public void reset() {
+        completed.reset();
+        rejected.reset();
+        timedOutInQueue.reset();
+        timedOutRunning.reset();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        AtomicBoolean started = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                started.set(true);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new ServiceUnavailableException("Too many authentication requests. Please retry shortly.");
+        }
+
+        try {
+            T result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            completed.increment();
+            return result;
+        } catch (TimeoutException e) {
+            abandon(future, started);
+            throw new ServiceUnavailableException("Authentication timed out. Please retry shortly.");
+        } catch (InterruptedException e) {
+            abandon(future, started);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Authentication was interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    /**
+     * Cancelling only stops work that has not started; a running hash cannot be interrupted
+     * and is counted as abandoned
+     */
+    private void abandon(Future<?> future, AtomicBoolean started) {
+        future.cancel(false);
+        if (started.get()) {
+            timedOutRunning.increment();
+        } else {
+            timedOutInQueue.increment();
+        }
+    }
+
+    /**
+     * Picks the highest BCrypt cost whose hash time stays within the target latency on this machine.
+     * Each cost step doubles the work, so a single measurement at the minimum cost is extrapolated.
+     */
+    public static int calibrateStrength(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+
+        // First run warms up the JIT; the second one is measured
+        encoder.encode(CALIBRATION_SAMPLE);
+        long start = System.nanoTime();
+        encoder.encode(CALIBRATION_SAMPLE);
+        double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        int strength = minStrength;
+        double projected = elapsedMillis;
+        while (strength < maxStrength && projected * 2 <= targetMillis) {
+            projected *= 2;
+            strength++;
+        }
+
+        log.info("BCrypt calibration: cost {} took {} ms, selected cost {} (~{} ms, target {} ms)",
+                minStrength, Math.round(elapsedMillis), strength, Math.round(projected), targetMillis);
+        return strength;
+    }
+}
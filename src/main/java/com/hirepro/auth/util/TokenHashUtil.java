@@ -0,0 +1,44 @@
+package com.hirepro.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Utility class for computing fixed-size digests of tokens.
+ * Digests are used as lookup keys so that raw tokens never need to be compared or stored.
+ */
+public class TokenHashUtil {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private TokenHashUtil() {
+    }
+
+    /**
+     * Computes the SHA-256 digest of a token
+     * @param token raw token
+     * @return 32-byte digest
+     */
+    public static byte[] sha256(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return digest.digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Computes the SHA-256 digest of a token as a URL-safe string key
+     * @param token raw token
+     * @return 43-character digest string
+     */
+    public static String sha256Key(String token) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(token));
+    }
+}
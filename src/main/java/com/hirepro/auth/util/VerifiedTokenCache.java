@@ -0,0 +1,73 @@
+package com.hirepro.auth.util;
+
+import com.hirepro.auth.security.TokenPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of verified access tokens keyed by the SHA-256 digest of the token.
+ * A hit means the exact same token was already verified, so signature checks and JSON parsing are skipped.
+ * Entries are dropped once the token expires.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, TokenPrincipal> entries = new ConcurrentHashMap<>();
+    private volatile long lastPurgeMillis;
+
+    private static final long PURGE_INTERVAL_MILLIS = 1000;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              @Value("${jwt.cache.max-entries:10000}") int maxEntries) {
+        this.jwtUtil = jwtUtil;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns the principal of a valid token, verifying it only on a cache miss.
+     * Throws a JwtException if the token is invalid or expired.
+     */
+    public TokenPrincipal verify(String token) {
+        String key = TokenHashUtil.sha256Key(token);
+        long now = System.currentTimeMillis();
+
+        TokenPrincipal cached = entries.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            entries.remove(key, cached);
+        }
+
+        TokenPrincipal principal = jwtUtil.parseVerifiedToken(token);
+        store(key, principal, now);
+        return principal;
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void store(String key, TokenPrincipal principal, long now) {
+        if (entries.size() >= maxEntries) {
+            // Full scans are rate-limited so a flood of distinct tokens cannot turn every miss into O(n) work
+            if (now - lastPurgeMillis >= PURGE_INTERVAL_MILLIS) {
+                lastPurgeMillis = now;
+                entries.values().removeIf(entry -> entry.isExpired(now));
+            }
+            if (entries.size() >= maxEntries) {
+                // Still full of live tokens: skip caching rather than grow unbounded
+                return;
+            }
+        }
+        entries.put(key, principal);
+    }
+}
@@ -1,5 +1,7 @@
 package com.hirepro.clients.controller;
 
+import com.hirepro.auth.security.TenantGuard;
+import com.hirepro.auth.security.TokenPrincipal;
 import com.hirepro.clients.dto.ClientResponse;
 import com.hirepro.clients.dto.CreateClientRequest;
 import com.hirepro.clients.dto.UpdateClientRequest;
@@ -11,8 +13,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -23,20 +24,20 @@ import java.util.Set;
 public class ClientController {
 
     private final ClientService clientService;
+    private final TenantGuard tenantGuard;
 
-    public ClientController(ClientService clientService) {
+    public ClientController(ClientService clientService, TenantGuard tenantGuard) {
         this.clientService = clientService;
+        this.tenantGuard = tenantGuard;
     }
 
     @PostMapping
-    @PreAuthorize("hasRole('SUPERADMIN')")
+    @PreAuthorize("hasPermission(null, 'CLIENT_CREATE')")
     public ResponseEntity<ApiResponse<ClientResponse>> createClient(
+            @AuthenticationPrincipal TokenPrincipal principal,
             @Valid @RequestBody CreateClientRequest request) {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String createdBy = authentication.getName();
-
-        ClientResponse clientResponse = clientService.createClient(request, createdBy);
+        ClientResponse clientResponse = clientService.createClient(request, principal.getUserId());
         return new ResponseEntity<>(
                 ApiResponse.success("Client created successfully", clientResponse),
                 HttpStatus.CREATED
@@ -44,37 +45,37 @@ public class ClientController {
     }
 
     @PutMapping("/{clientId}")
-    @PreAuthorize("hasRole('SUPERADMIN')")
+    @PreAuthorize("hasPermission(null, 'CLIENT_UPDATE')")
     public ResponseEntity<ApiResponse<ClientResponse>> updateClient(
             @PathVariable String clientId,
+            @AuthenticationPrincipal TokenPrincipal principal,
             @Valid @RequestBody UpdateClientRequest request) {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String updatedBy = authentication.getName();
-
-        ClientResponse clientResponse = clientService.updateClient(clientId, request, updatedBy);
+        tenantGuard.checkClientAccess(clientId);
+        ClientResponse clientResponse = clientService.updateClient(clientId, request, principal.getUserId());
         return ResponseEntity.ok(
                 ApiResponse.success("Client updated successfully", clientResponse)
         );
     }
 
     @DeleteMapping("/{clientId}")
-    @PreAuthorize("hasRole('SUPERADMIN')")
-    public ResponseEntity<ApiResponse<Void>> deleteClient(@PathVariable String clientId) {
-
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String deletedBy = authentication.getName();
+    @PreAuthorize("hasPermission(null, 'CLIENT_DELETE')")
+    public ResponseEntity<ApiResponse<Void>> deleteClient(
+            @PathVariable String clientId,
+            @AuthenticationPrincipal TokenPrincipal principal) {
 
-        clientService.deleteClient(clientId, deletedBy);
+        tenantGuard.checkClientAccess(clientId);
+        clientService.deleteClient(clientId, principal.getUserId());
         return ResponseEntity.ok(
                 ApiResponse.success("Client deleted successfully")
         );
     }
 
     @GetMapping("/{clientId}")
-    @PreAuthorize("hasAnyRole('SUPERADMIN', 'CLIENT_ADMIN')")
+    @PreAuthorize("hasPermission(null, 'CLIENT_READ')")
     public ResponseEntity<ApiResponse<ClientResponse>> getClientById(@PathVariable String clientId) {
 
+        tenantGuard.checkClientAccess(clientId);
         ClientResponse clientResponse = clientService.getClientById(clientId);
         return ResponseEntity.ok(
                 ApiResponse.success("Client retrieved successfully", clientResponse)
@@ -82,13 +83,17 @@ public class ClientController {
     }
 
     @GetMapping
-    @PreAuthorize("hasRole('SUPERADMIN')")
+    @PreAuthorize("hasPermission(null, 'CLIENT_LIST')")
     public ResponseEntity<ApiResponse<PageResponseDto<ClientResponse>>> getAllClients(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "DESC") String sortDirection,
             @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "like") String searchMode,
+            @RequestParam(defaultValue = "offset") String pagination,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "exact") String count,
             @RequestParam(required = false) Map<String, String> allParams) {
 
         PageRequestDto pageRequest = new PageRequestDto();
@@ -97,9 +102,13 @@ public class ClientController {
         pageRequest.setSortBy(sortBy);
         pageRequest.setSortDirection(sortDirection);
         pageRequest.setSearch(search);
+        pageRequest.setSearchMode(searchMode);
+        pageRequest.setPagination(pagination);
+        pageRequest.setAfter(after);
+        pageRequest.setCount(count);
 
         // Reserved param names to skip
-        Set<String> reserved = Set.of("page", "size", "sortBy", "sortDirection", "search");
+        Set<String> reserved = Set.of("page", "size", "sortBy", "sortDirection", "search", "searchMode", "pagination", "after", "count");
 
         if (allParams != null) {
             allParams.entrySet().stream()
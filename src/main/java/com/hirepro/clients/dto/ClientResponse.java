@@ -9,6 +9,7 @@ public class ClientResponse {
     private String name;
     private String regions;
     private String subscriptionId;
+    private String subscriptionPlan;
     private String status;
     private String createdBy;
     private String updatedBy;
@@ -52,6 +53,14 @@ public class ClientResponse {
         this.regions = regions;
     }
 
+    public String getSubscriptionPlan() {
+        return subscriptionPlan;
+    }
+
+    public void setSubscriptionPlan(String subscriptionPlan) {
+        this.subscriptionPlan = subscriptionPlan;
+    }
+
     public String getSubscriptionId() {
         return subscriptionId;
     }
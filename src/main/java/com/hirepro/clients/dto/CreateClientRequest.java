@@ -17,6 +17,10 @@ public class CreateClientRequest {
 
     private String subscriptionId;
 
+    @Pattern(regexp = "BASIC|STANDARD|PREMIUM|ENTERPRISE",
+            message = "Subscription plan must be BASIC, STANDARD, PREMIUM, or ENTERPRISE")
+    private String subscriptionPlan;
+
     @Pattern(regexp = "ACTIVE|INACTIVE", message = "Status must be ACTIVE or INACTIVE")
     private String status;
 
@@ -49,6 +53,14 @@ public class CreateClientRequest {
         this.regions = regions;
     }
 
+    public String getSubscriptionPlan() {
+        return subscriptionPlan;
+    }
+
+    public void setSubscriptionPlan(String subscriptionPlan) {
+        this.subscriptionPlan = subscriptionPlan;
+    }
+
     public String getSubscriptionId() {
         return subscriptionId;
     }
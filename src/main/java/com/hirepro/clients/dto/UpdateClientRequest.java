@@ -13,6 +13,10 @@ public class UpdateClientRequest {
 
     private String subscriptionId;
 
+    @Pattern(regexp = "BASIC|STANDARD|PREMIUM|ENTERPRISE",
+            message = "Subscription plan must be BASIC, STANDARD, PREMIUM, or ENTERPRISE")
+    private String subscriptionPlan;
+
     @Pattern(regexp = "ACTIVE|INACTIVE", message = "Status must be ACTIVE or INACTIVE")
     private String status;
 
@@ -45,6 +49,14 @@ public class UpdateClientRequest {
         this.regions = regions;
     }
 
+    public String getSubscriptionPlan() {
+        return subscriptionPlan;
+    }
+
+    public void setSubscriptionPlan(String subscriptionPlan) {
+        this.subscriptionPlan = subscriptionPlan;
+    }
+
     public String getSubscriptionId() {
         return subscriptionId;
     }
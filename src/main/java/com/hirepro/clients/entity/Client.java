@@ -28,6 +28,9 @@ public class Client {
     @Column(name = "subscription_id", length = 26)
     private String subscriptionId;
 
+    @Column(name = "subscription_plan", length = 20, nullable = false)
+    private String subscriptionPlan;
+
     @Column(name = "status", length = 20, nullable = false)
     private String status;
 
@@ -95,6 +98,14 @@ public class Client {
         this.regions = regions;
     }
 
+    public String getSubscriptionPlan() {
+        return subscriptionPlan;
+    }
+
+    public void setSubscriptionPlan(String subscriptionPlan) {
+        this.subscriptionPlan = subscriptionPlan;
+    }
+
     public String getSubscriptionId() {
         return subscriptionId;
     }
@@ -1,8 +1,28 @@
 package com.hirepro.clients.enums;
 
+/**
+ * Client subscription tiers. {@code requestsPerMinute} is the tenant-wide API quota;
+ * {@code schedulingWeight} is the tenant's share of database admission under contention.
+ */
 public enum SubscriptionPlan {
-    BASIC,
-    STANDARD,
-    PREMIUM,
-    ENTERPRISE
-}
\ No newline at end of file
+    BASIC(120, 1),
+    STANDARD(300, 2),
+    PREMIUM(900, 4),
+    ENTERPRISE(3000, 8);
+
+    private final int requestsPerMinute;
+    private final int schedulingWeight;
+
+    SubscriptionPlan(int requestsPerMinute, int schedulingWeight) {
+        this.requestsPerMinute = requestsPerMinute;
+        this.schedulingWeight = schedulingWeight;
+    }
+
+    public int getRequestsPerMinute() {
+        return requestsPerMinute;
+    }
+
+    public int getSchedulingWeight() {
+        return schedulingWeight;
+    }
+}
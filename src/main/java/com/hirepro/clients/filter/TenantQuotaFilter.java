@@ -0,0 +1,143 @@
+package com.hirepro.clients.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hirepro.auth.security.TenantGuard;
+import com.hirepro.auth.security.TokenPrincipal;
+import com.hirepro.clients.enums.SubscriptionPlan;
+import com.hirepro.clients.service.ClientPlanCache;
+import com.hirepro.common.response.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-tenant request quota by subscription plan, applied after JWT authentication.
+ * Each tenant has a fixed one-minute window whose index and request count are packed into a
+ * single {@link AtomicLong}, so counting and window rollover are one CAS with no locks.
+ * Callers that are not tenant-bound (SUPERADMIN) are not counted. Tenant-bound users without a
+ * client ({@link TenantGuard#NO_TENANT}) are counted per user at the BASIC limit, so they do not
+ * share one bucket.
+ */
+@Component
+public class TenantQuotaFilter extends OncePerRequestFilter {
+
+    private static final long WINDOW_MILLIS = 60_000L;
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final String USER_KEY_PREFIX = "user:";
+
+    private final TenantGuard tenantGuard;
+    private final ClientPlanCache clientPlanCache;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    private final Map<String, AtomicLong> windows = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> throttled = new ConcurrentHashMap<>();
+
+    public TenantQuotaFilter(TenantGuard tenantGuard,
+                             ClientPlanCache clientPlanCache,
+                             ObjectMapper objectMapper,
+                             @Value("${app.tenant-quota.enabled:true}") boolean enabled) {
+        this.tenantGuard = tenantGuard;
+        this.clientPlanCache = clientPlanCache;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String quotaKey = enabled ? quotaKey(tenantGuard.currentTenant()) : null;
+        if (quotaKey == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SubscriptionPlan plan = planFor(quotaKey);
+        long now = System.currentTimeMillis();
+        if (tryAcquire(quotaKey, now / WINDOW_MILLIS, plan.getRequestsPerMinute())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        throttled.computeIfAbsent(quotaKey, t -> new LongAdder()).increment();
+        long retryAfterSeconds = Math.max(1, (WINDOW_MILLIS - now % WINDOW_MILLIS + 999) / 1000);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("Request quota exceeded for the " + plan + " plan. Please try again later."));
+    }
+
+    /**
+     * The client id, or {@code user:<userId>} for callers bound to no client; null when not counted
+     */
+    private static String quotaKey(String tenant) {
+        if (tenant == null || !tenant.equals(TenantGuard.NO_TENANT)) {
+            return tenant;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof TokenPrincipal principal
+                && principal.getUserId() != null) {
+            return USER_KEY_PREFIX + principal.getUserId();
+        }
+        return null;
+    }
+
+    private SubscriptionPlan planFor(String quotaKey) {
+        return quotaKey.startsWith(USER_KEY_PREFIX) ? SubscriptionPlan.BASIC : clientPlanCache.planFor(quotaKey);
+    }
+
+    private boolean tryAcquire(String tenant, long window, int limit) {
+        AtomicLong state = windows.computeIfAbsent(tenant, t -> new AtomicLong());
+        while (true) {
+            long current = state.get();
+            long count = (current >>> COUNT_BITS) == window ? current & COUNT_MASK : 0;
+            if (count >= limit) {
+                return false;
+            }
+            if (state.compareAndSet(current, (window << COUNT_BITS) | (count + 1))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Requests counted in the current window and requests rejected so far, per tenant
+     */
+    public Map<String, Object> snapshot() {
+        long window = System.currentTimeMillis() / WINDOW_MILLIS;
+        Map<String, Object> result = new LinkedHashMap<>();
+        windows.forEach((tenant, state) -> {
+            long current = state.get();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("plan", planFor(tenant));
+            stats.put("currentWindowRequests", (current >>> COUNT_BITS) == window ? current & COUNT_MASK : 0);
+            LongAdder rejected = throttled.get(tenant);
+            stats.put("throttled", rejected != null ? rejected.sum() : 0L);
+            result.put(tenant, stats);
+        });
+        return result;
+    }
+
+    public void reset() {
+        throttled.clear();
+    }
+}
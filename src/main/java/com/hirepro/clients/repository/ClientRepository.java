@@ -28,6 +28,15 @@ public interface ClientRepository extends JpaRepository<Client, String>, JpaSpec
     @Query("SELECT c FROM Client c WHERE c.id = :id AND c.deletedAt IS NULL")
     Optional<Client> findByIdAndNotDeleted(@Param("id") String id);
 
+    /**
+     * Reads only the subscription plan of a non-deleted client.
+     *
+     * @param id Client ID
+     * @return Optional containing the plan name if the client exists
+     */
+    @Query("SELECT c.subscriptionPlan FROM Client c WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<String> findSubscriptionPlanById(@Param("id") String id);
+
     /**
      * Checks if a client code already exists.
      *
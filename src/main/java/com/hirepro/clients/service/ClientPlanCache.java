@@ -0,0 +1,101 @@
+package com.hirepro.clients.service;
+
+import com.hirepro.clients.enums.SubscriptionPlan;
+import com.hirepro.clients.repository.ClientRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Subscription plan per client id, read once per TTL instead of on every request.
+ * Plan changes made through this instance evict the entry after commit; changes made
+ * elsewhere are seen once the entry expires. Unknown or deleted clients count as BASIC.
+ * When the cache is full, expired entries are purged and then single entries are evicted,
+ * so a burst of new tenants never drops every cached plan at once.
+ */
+@Component
+public class ClientPlanCache {
+
+    private final ClientRepository clientRepository;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile long lastPurgeMillis;
+
+    private static final long PURGE_INTERVAL_MILLIS = 1000;
+
+    public ClientPlanCache(ClientRepository clientRepository,
+                           @Value("${app.tenant-quota.plan-cache-ttl-ms:60000}") long ttlMillis,
+                           @Value("${app.tenant-quota.plan-cache-max-entries:10000}") int maxEntries) {
+        this.clientRepository = clientRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public SubscriptionPlan planFor(String clientId) {
+        // Callers without a client (TenantGuard.NO_TENANT) cannot match a row
+        if (clientId == null || clientId.isEmpty()) {
+            return SubscriptionPlan.BASIC;
+        }
+
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(clientId);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.plan;
+        }
+
+        SubscriptionPlan plan = clientRepository.findSubscriptionPlanById(clientId)
+                .map(SubscriptionPlan::valueOf)
+                .orElse(SubscriptionPlan.BASIC);
+        store(clientId, new Entry(plan, now + ttlMillis), now);
+        return plan;
+    }
+
+    /**
+     * Drops the cached plan; inside a transaction this happens after commit
+     */
+    public void invalidate(String clientId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(clientId);
+                }
+            });
+        } else {
+            entries.remove(clientId);
+        }
+    }
+
+    private void store(String clientId, Entry entry, long now) {
+        if (entries.size() >= maxEntries) {
+            // Full scans are rate-limited so a flood of distinct tenants cannot turn every miss into O(n) work
+            if (now - lastPurgeMillis >= PURGE_INTERVAL_MILLIS) {
+                lastPurgeMillis = now;
+                entries.values().removeIf(cached -> cached.expiresAt <= now);
+            }
+            // Still full of live plans: evict single entries, each costing one tenant one extra read
+            Iterator<String> keys = entries.keySet().iterator();
+            while (entries.size() >= maxEntries && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        entries.put(clientId, entry);
+    }
+
+    private static final class Entry {
+        private final SubscriptionPlan plan;
+        private final long expiresAt;
+
+        Entry(SubscriptionPlan plan, long expiresAt) {
+            this.plan = plan;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
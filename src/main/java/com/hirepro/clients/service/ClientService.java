@@ -5,6 +5,7 @@ import com.hirepro.clients.dto.CreateClientRequest;
 import com.hirepro.clients.dto.UpdateClientRequest;
 import com.hirepro.common.dto.PageRequestDto;
 import com.hirepro.common.dto.PageResponseDto;
+import jakarta.validation.Valid;
 
 /**
  * Service interface for Client operations.
@@ -52,9 +53,14 @@ public interface ClientService {
 
     /**
      * Retrieves all clients with pagination, sorting, filtering, and global search.
+     * {@code searchMode=fulltext} searches through the FULLTEXT index and allows {@code sortBy=relevance}.
+     * With {@code pagination=cursor} pages are read by keyset from the {@code after} cursor
+     * and no total count is computed. For offset pages, {@code count} selects an exact,
+     * cached or omitted total, or an exact total counted concurrently with the page query.
+     * The request is validated against its constraints before any query runs.
      *
      * @param pageRequest Pagination and filter parameters
      * @return Page of client responses
      */
-    PageResponseDto<ClientResponse> getAllClients(PageRequestDto pageRequest);
+    PageResponseDto<ClientResponse> getAllClients(@Valid PageRequestDto pageRequest);
 }
\ No newline at end of file
@@ -4,44 +4,114 @@ import com.hirepro.clients.dto.ClientResponse;
 import com.hirepro.clients.dto.CreateClientRequest;
 import com.hirepro.clients.dto.UpdateClientRequest;
 import com.hirepro.clients.entity.Client;
+import com.hirepro.clients.enums.SubscriptionPlan;
 import com.hirepro.clients.repository.ClientRepository;
+import com.hirepro.common.admission.TenantAdmission;
 import com.hirepro.common.dto.PageRequestDto;
 import com.hirepro.common.dto.PageResponseDto;
 import com.hirepro.common.exception.BadRequestException;
 import com.hirepro.common.exception.ResourceNotFoundException;
+import com.hirepro.common.pagination.ConcurrentCountExecutor;
+import com.hirepro.common.pagination.CountMode;
+import com.hirepro.common.pagination.PageCountCache;
+import com.hirepro.common.pagination.SliceQuery;
+import com.hirepro.common.util.FilterOperator;
+import com.hirepro.common.util.FilterSchema;
+import com.hirepro.common.util.PageCursor;
 import com.hirepro.common.util.PageMapper;
 import com.hirepro.common.util.SpecificationBuilder;
 import com.hirepro.common.util.UlidGenerator;
+import jakarta.persistence.EntityManager;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of ClientService interface.
  * Handles all business logic related to client operations.
+ * Every operation is admitted through the tenant scheduler before it takes a connection.
  *
  * @author HirePro Team
  * @version 1.0
  */
 @Service
+@Validated
+@TenantAdmission
 public class ClientServiceImpl implements ClientService {
 
     private final ClientRepository clientRepository;
     private final ModelMapper modelMapper;
+    private final ClientPlanCache clientPlanCache;
+    private final PageCountCache pageCountCache;
+    private final EntityManager entityManager;
+    private final ConcurrentCountExecutor concurrentCountExecutor;
+
+    // Table name used for cached list totals
+    private static final String COUNT_CACHE_TABLE = "clients";
 
     // Fields that can be searched globally
     private static final String[] SEARCHABLE_FIELDS = {"name", "clientCode", "regions", "status"};
 
-    public ClientServiceImpl(ClientRepository clientRepository, ModelMapper modelMapper) {
+    // Columns of the ft_clients_search FULLTEXT index, in order; status terms take the fast path below
+    private static final String[] FULLTEXT_FIELDS = {"name", "clientCode", "regions"};
+
+    // Search terms answered by the status index instead of a full-text match
+    private static final Set<String> STATUS_VALUES = Set.of("ACTIVE", "INACTIVE");
+
+    // Pseudo sort field: order full-text results by relevance
+    private static final String SORT_BY_RELEVANCE = "relevance";
+
+    // Filterable fields; each one is backed by an index (see changelogs 008 and 009)
+    private static final FilterSchema<Client> CLIENT_FILTERS = FilterSchema.builder(Client.class)
+            .field("id", String.class, FilterOperator.EQ, FilterOperator.IN)
+            .field("clientCode", String.class, FilterOperator.EQ, FilterOperator.IN)
+            .field("status", String.class, FilterOperator.EQ, FilterOperator.NE, FilterOperator.IN)
+            .field("regions", String.class, FilterOperator.EQ, FilterOperator.IN)
+            .field("subscriptionPlan", String.class, FilterOperator.EQ, FilterOperator.IN)
+            .field("subscriptionId", String.class, FilterOperator.EQ, FilterOperator.ISNULL, FilterOperator.ISNOTNULL)
+            .field("createdAt", LocalDateTime.class,
+                    FilterOperator.GT, FilterOperator.GTE, FilterOperator.LT, FilterOperator.LTE)
+            .field("updatedAt", LocalDateTime.class,
+                    FilterOperator.GT, FilterOperator.GTE, FilterOperator.LT, FilterOperator.LTE)
+            .build();
+
+    // Sort keys supported by cursor pagination (non-null columns), with the value each cursor records.
+    // Each must have an index ordered by (key, id) or a unique one; see changelogs 008 and 011
+    private static final Map<String, Function<Client, Object>> CURSOR_SORT_KEYS = Map.of(
+            "createdAt", Client::getCreatedAt,
+            "updatedAt", Client::getUpdatedAt,
+            "name", Client::getName,
+            "clientCode", Client::getClientCode,
+            "id", Client::getId
+    );
+
+    public ClientServiceImpl(ClientRepository clientRepository, ModelMapper modelMapper,
+                             ClientPlanCache clientPlanCache, PageCountCache pageCountCache,
+                             EntityManager entityManager,
+                             ConcurrentCountExecutor concurrentCountExecutor) {
         this.clientRepository = clientRepository;
         this.modelMapper = modelMapper;
+        this.clientPlanCache = clientPlanCache;
+        this.pageCountCache = pageCountCache;
+        this.entityManager = entityManager;
+        this.concurrentCountExecutor = concurrentCountExecutor;
     }
 
     @Override
@@ -64,9 +134,12 @@ public class ClientServiceImpl implements ClientService {
         // Generate ULID for client ID
         client.setId(UlidGenerator.generate());
         client.setStatus(request.getStatus() != null ? request.getStatus() : "ACTIVE");
+        client.setSubscriptionPlan(request.getSubscriptionPlan() != null
+                ? request.getSubscriptionPlan() : SubscriptionPlan.BASIC.name());
         client.setCreatedBy(createdBy);
 
         Client savedClient = clientRepository.save(client);
+        pageCountCache.invalidate(COUNT_CACHE_TABLE);
         return modelMapper.map(savedClient, ClientResponse.class);
     }
 
@@ -95,6 +168,8 @@ public class ClientServiceImpl implements ClientService {
         client.setUpdatedBy(updatedBy);
 
         Client updatedClient = clientRepository.save(client);
+        clientPlanCache.invalidate(clientId);
+        pageCountCache.invalidate(COUNT_CACHE_TABLE);
         return modelMapper.map(updatedClient, ClientResponse.class);
     }
 
@@ -109,6 +184,8 @@ public class ClientServiceImpl implements ClientService {
         client.setUpdatedBy(deletedBy);
 
         clientRepository.save(client);
+        clientPlanCache.invalidate(clientId);
+        pageCountCache.invalidate(COUNT_CACHE_TABLE);
     }
 
     @Override
@@ -123,17 +200,142 @@ public class ClientServiceImpl implements ClientService {
     @Override
     public PageResponseDto<ClientResponse> getAllClients(PageRequestDto pageRequest) {
 
+        if (pageRequest.isCursorPagination()) {
+            return getClientsByCursor(pageRequest);
+        }
+
         // Build the specification with filters
         Specification<Client> spec = buildSpecification(pageRequest);
 
         // Create pageable with sorting
         Pageable pageable = createPageable(pageRequest);
 
-        // Execute query
-        Page<Client> clientPage = clientRepository.findAll(spec, pageable);
+        CountMode countMode = CountMode.from(pageRequest.getCount());
+        if (countMode == CountMode.EXACT) {
+            // Execute query
+            Page<Client> clientPage = clientRepository.findAll(spec, pageable);
+
+            // Convert to PageResponseDto
+            return PageMapper.toPageResponse(clientPage, modelMapper, ClientResponse.class);
+        }
+
+        String search = pageRequest.getSearch();
+        String countKey = PageCountCache.key(
+                search != null && pageRequest.isFullTextSearch() ? "fulltext:" + search : search,
+                pageRequest.getFilters());
+
+        // Started first so the COUNT runs on its own connection while the page is read
+        CompletableFuture<Long> concurrentCount = countMode == CountMode.CONCURRENT
+                ? concurrentCountExecutor.submit(
+                        () -> pageCountCache.refresh(COUNT_CACHE_TABLE, countKey, () -> clientRepository.count(spec)))
+                : null;
+
+        // Page query without COUNT; the generation is read first so a total from a stale page is not cached
+        long countGeneration = pageCountCache.generation(COUNT_CACHE_TABLE);
+        Slice<Client> slice = SliceQuery.find(entityManager, Client.class, spec, pageable);
+        if (countMode == CountMode.NONE) {
+            return PageMapper.toSliceResponse(slice, modelMapper, ClientResponse.class);
+        }
+        if (countMode == CountMode.CONCURRENT) {
+            return toConcurrentCountPage(slice, pageable, countKey, concurrentCount);
+        }
+
+        long total;
+        if (!slice.hasNext() && (!slice.getContent().isEmpty() || pageable.getOffset() == 0)) {
+            // Reached the end, so the total is known without counting
+            total = pageable.getOffset() + slice.getNumberOfElements();
+            pageCountCache.put(COUNT_CACHE_TABLE, countKey, total, countGeneration);
+        } else {
+            total = pageCountCache.get(COUNT_CACHE_TABLE, countKey, () -> clientRepository.count(spec));
+        }
+
+        return PageMapper.toPageResponse(
+                new PageImpl<>(slice.getContent(), pageable, total), modelMapper, ClientResponse.class);
+    }
+
+    /**
+     * Assembles a page from a slice and a COUNT started concurrently. If the count is not back in time
+     * (or could not be started), the total is a cached one or, failing that, a lower bound from the
+     * rows seen, and the metadata is flagged as estimated. A late count still fills the cache.
+     *
+     * @param slice Page content read without a count
+     * @param pageable Requested page
+     * @param countKey Normalized filter key for cached totals
+     * @param concurrentCount Running count, or null if the executor was saturated
+     * @return Page of clients with exact or estimated totals
+     */
+    private PageResponseDto<ClientResponse> toConcurrentCountPage(Slice<Client> slice, Pageable pageable,
+                                                                  String countKey,
+                                                                  CompletableFuture<Long> concurrentCount) {
+        long seen = pageable.getOffset() + slice.getNumberOfElements();
+        Long total;
+        if (!slice.hasNext() && (!slice.getContent().isEmpty() || pageable.getOffset() == 0)) {
+            // Last page: the total is known, the count is not needed
+            total = seen;
+        } else {
+            total = concurrentCountExecutor.await(concurrentCount);
+        }
+
+        boolean estimated = total == null;
+        if (estimated) {
+            Long cached = pageCountCache.peek(COUNT_CACHE_TABLE, countKey);
+            total = cached != null && cached >= seen ? cached : seen + (slice.hasNext() ? 1 : 0);
+        }
+
+        PageResponseDto<ClientResponse> response = PageMapper.toPageResponse(
+                new PageImpl<>(slice.getContent(), pageable, total), modelMapper, ClientResponse.class);
+        if (estimated) {
+            response.getMetadata().setTotalEstimated(true);
+        }
+        return response;
+    }
+
+    /**
+     * Keyset pagination: seeks past the cursor's (sort value, id) and reads one row more than
+     * the page size to learn whether another page exists. No OFFSET and no COUNT query, so
+     * every page costs the same regardless of depth.
+     *
+     * @param pageRequest Page request with cursor, filters and search
+     * @return Page of clients with the cursor for the next page
+     */
+    private PageResponseDto<ClientResponse> getClientsByCursor(PageRequestDto pageRequest) {
+        String sortBy = pageRequest.getSortBy() != null && !pageRequest.getSortBy().trim().isEmpty()
+                ? pageRequest.getSortBy() : "createdAt";
+        Function<Client, Object> sortKey = CURSOR_SORT_KEYS.get(sortBy);
+        if (sortKey == null) {
+            throw new BadRequestException("Cursor pagination supports sorting by " + CURSOR_SORT_KEYS.keySet());
+        }
+        boolean ascending = "ASC".equalsIgnoreCase(pageRequest.getSortDirection());
+        String direction = ascending ? "ASC" : "DESC";
+
+        Specification<Client> spec = buildSpecification(pageRequest);
+        boolean firstPage = pageRequest.getAfter() == null || pageRequest.getAfter().isEmpty();
+        if (!firstPage) {
+            PageCursor cursor = PageCursor.decode(pageRequest.getAfter(), sortBy, direction);
+            spec = spec.and(SpecificationBuilder.seekAfter(sortBy, cursor.getValue(), cursor.getId(), ascending));
+        }
+
+        Sort.Direction sortDirection = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = "id".equals(sortBy)
+                ? Sort.by(sortDirection, "id")
+                : Sort.by(sortDirection, sortBy).and(Sort.by(sortDirection, "id"));
+        int size = pageRequest.getSize();
+
+        List<Client> rows = clientRepository.findBy(spec, query -> query.sortBy(sort).limit(size + 1).all());
 
-        // Convert to PageResponseDto
-        return PageMapper.toPageResponse(clientPage, modelMapper, ClientResponse.class);
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            Client last = rows.get(size - 1);
+            nextCursor = new PageCursor(sortBy, direction, last.getId(),
+                    String.valueOf(sortKey.apply(last))).encode();
+        }
+
+        List<ClientResponse> content = rows.stream()
+                .map(client -> modelMapper.map(client, ClientResponse.class))
+                .collect(Collectors.toList());
+        return PageResponseDto.of(content,
+                PageResponseDto.PageMetadata.forCursor(size, firstPage, nextCursor));
     }
 
     /**
@@ -145,24 +347,60 @@ public class ClientServiceImpl implements ClientService {
     private Specification<Client> buildSpecification(PageRequestDto pageRequest) {
         Specification<Client> spec = SpecificationBuilder.isNotDeleted();
 
+        // Only a full-text MATCH has a relevance score; LIKE search would return the rows unsorted
+        if (isSortByRelevance(pageRequest) && !pageRequest.isFullTextSearch()) {
+            throw new BadRequestException("Sorting by relevance requires searchMode=fulltext");
+        }
+
         // Add global search if present
         if (pageRequest.getSearch() != null && !pageRequest.getSearch().trim().isEmpty()) {
-            Specification<Client> searchSpec = SpecificationBuilder.globalSearch(
-                    pageRequest.getSearch(),
-                    SEARCHABLE_FIELDS
-            );
+            Specification<Client> searchSpec = pageRequest.isFullTextSearch()
+                    ? buildFullTextSearch(pageRequest.getSearch().trim(), isSortByRelevance(pageRequest))
+                    : SpecificationBuilder.globalSearch(pageRequest.getSearch(), SEARCHABLE_FIELDS);
             spec = spec.and(searchSpec);
+        } else if (isSortByRelevance(pageRequest)) {
+            throw new BadRequestException("Sorting by relevance requires a search term");
         }
 
         // Add filters if present
         if (pageRequest.getFilters() != null && !pageRequest.getFilters().isEmpty()) {
-            Specification<Client> filterSpec = SpecificationBuilder.withFilters(pageRequest.getFilters());
-            spec = spec.and(filterSpec);
+            Specification<Client> filterSpec = CLIENT_FILTERS.toSpecification(pageRequest.getFilters());
+            if (filterSpec != null) {
+                spec = spec.and(filterSpec);
+            }
         }
 
         return spec;
     }
 
+    /**
+     * Full-text search with exact-match fast paths: a status value or an existing client code is
+     * answered by its B-tree index. Terms with no word long enough for the FULLTEXT index fall
+     * back to LIKE search. A single-word term costs one extra indexed lookup on client_code to
+     * decide whether it is a client code; that lookup is cheaper than the MATCH it can replace.
+     *
+     * @param term Trimmed search term
+     * @param orderByRelevance Whether results are ordered by MATCH relevance
+     * @return Search specification
+     */
+    private Specification<Client> buildFullTextSearch(String term, boolean orderByRelevance) {
+        String upper = term.toUpperCase(Locale.ROOT);
+        if (STATUS_VALUES.contains(upper)) {
+            return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("status"), upper);
+        }
+        if (term.indexOf(' ') < 0 && clientRepository.existsByClientCode(term)) {
+            return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("clientCode"), term);
+        }
+        if (SpecificationBuilder.toBooleanModeQuery(term) == null) {
+            return SpecificationBuilder.globalSearch(term, SEARCHABLE_FIELDS);
+        }
+        return SpecificationBuilder.fullTextSearch(term, orderByRelevance, FULLTEXT_FIELDS);
+    }
+
+    private static boolean isSortByRelevance(PageRequestDto pageRequest) {
+        return SORT_BY_RELEVANCE.equals(pageRequest.getSortBy());
+    }
+
     /**
      * Creates a Pageable object based on page request parameters.
      *
@@ -172,7 +410,9 @@ public class ClientServiceImpl implements ClientService {
     private Pageable createPageable(PageRequestDto pageRequest) {
         Sort sort = Sort.unsorted();
 
-        if (pageRequest.getSortBy() != null && !pageRequest.getSortBy().trim().isEmpty()) {
+        // Relevance ordering is applied by the full-text specification itself
+        if (pageRequest.getSortBy() != null && !pageRequest.getSortBy().trim().isEmpty()
+                && !isSortByRelevance(pageRequest)) {
             Sort.Direction direction = "ASC".equalsIgnoreCase(pageRequest.getSortDirection())
                     ? Sort.Direction.ASC
                     : Sort.Direction.DESC;
@@ -0,0 +1,16 @@
+package com.hirepro.common.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks database-bound service methods (or every method of a class) that must be admitted by
+ * {@link TenantAdmissionScheduler} before they run. Admission happens outside the transaction,
+ * so no connection is taken while waiting.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TenantAdmission {
+}
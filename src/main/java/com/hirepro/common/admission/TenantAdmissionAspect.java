@@ -0,0 +1,60 @@
+package com.hirepro.common.admission;
+
+import com.hirepro.auth.security.TenantGuard;
+import com.hirepro.clients.service.ClientPlanCache;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps {@link TenantAdmission} methods in a scheduler slot. Ordered ahead of the transaction
+ * interceptor so the slot is held before, and released after, the connection.
+ * Nested admitted calls on the same thread reuse the outer slot.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class TenantAdmissionAspect {
+
+    private static final ThreadLocal<Boolean> ADMITTED = new ThreadLocal<>();
+
+    private final TenantAdmissionScheduler scheduler;
+    private final TenantGuard tenantGuard;
+    private final ClientPlanCache clientPlanCache;
+    private final int unboundWeight;
+
+    public TenantAdmissionAspect(TenantAdmissionScheduler scheduler,
+                                 TenantGuard tenantGuard,
+                                 ClientPlanCache clientPlanCache,
+                                 @Value("${app.admission.unbound-weight:8}") int unboundWeight) {
+        this.scheduler = scheduler;
+        this.tenantGuard = tenantGuard;
+        this.clientPlanCache = clientPlanCache;
+        this.unboundWeight = unboundWeight;
+    }
+
+    @Around("@within(com.hirepro.common.admission.TenantAdmission) || " +
+            "@annotation(com.hirepro.common.admission.TenantAdmission)")
+    public Object admit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!scheduler.isEnabled() || ADMITTED.get() != null) {
+            return joinPoint.proceed();
+        }
+
+        String tenant = tenantGuard.currentTenant();
+        int weight = tenant != null ? clientPlanCache.planFor(tenant).getSchedulingWeight() : unboundWeight;
+        String key = tenant != null ? tenant : TenantAdmissionScheduler.UNBOUND;
+
+        scheduler.acquire(key, weight);
+        ADMITTED.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ADMITTED.remove();
+            scheduler.release();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.hirepro.common.admission;
+
+import com.hirepro.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Weighted fair queuing of database-bound work across tenants.
+ * A fixed number of slots (kept below the connection pool size, leaving room for the concurrent-count
+ * threads and unadmitted login work) is handed out directly while free. Once they are all taken,
+ * callers queue with a virtual finish time of
+ * {@code max(virtualTime, tenant's last finish) + 1 / weight} and the smallest finish time is served
+ * next, so each backlogged tenant gets slots in proportion to its plan weight and a burst from one
+ * tenant only delays that tenant's own queue.
+ *
+ * <p>Callers that wait longer than {@code app.admission.queue-timeout-ms} get a 503. Their tenant is not
+ * charged for the work it never ran: its last finish time is recomputed from its waiters still queued,
+ * or the last one served.</p>
+ */
+@Component
+public class TenantAdmissionScheduler {
+
+    static final String UNBOUND = "";
+
+    private final boolean enabled;
+    private final long queueTimeoutNanos;
+    private final int permits;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>(
+            Comparator.comparingDouble((Waiter w) -> w.finish).thenComparingLong(w -> w.sequence));
+    private final Map<String, Double> lastFinish = new HashMap<>();
+    private final Map<String, Double> lastServed = new HashMap<>();
+    private final Map<String, TenantStats> stats = new HashMap<>();
+
+    private int available;
+    private double virtualTime;
+    private long sequence;
+
+    public TenantAdmissionScheduler(@Value("${app.admission.enabled:true}") boolean enabled,
+                                    @Value("${app.admission.permits:6}") int permits,
+                                    @Value("${app.admission.queue-timeout-ms:2000}") long queueTimeoutMillis) {
+        this.enabled = enabled;
+        this.permits = permits;
+        this.available = permits;
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMillis);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Blocks until a slot is granted to this tenant, or throws when the queue timeout passes
+     */
+    public void acquire(String tenant, int weight) {
+        long start = System.nanoTime();
+
+        lock.lock();
+        try {
+            TenantStats tenantStats = stats.computeIfAbsent(tenant, t -> new TenantStats());
+            if (available > 0 && queue.isEmpty()) {
+                available--;
+                tenantStats.immediate++;
+                return;
+            }
+
+            double startTag = Math.max(virtualTime, lastFinish.getOrDefault(tenant, 0.0));
+            Waiter waiter = new Waiter(tenant, lock.newCondition(),
+                    startTag, startTag + 1.0 / Math.max(1, weight), sequence++);
+            lastFinish.put(tenant, waiter.finish);
+            queue.add(waiter);
+
+            long remaining = queueTimeoutNanos;
+            try {
+                while (!waiter.granted && remaining > 0) {
+                    remaining = waiter.signal.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                if (waiter.granted) {
+                    // Granted while being interrupted; pass the slot on rather than leak it
+                    grantNext();
+                } else {
+                    withdraw(waiter);
+                }
+                Thread.currentThread().interrupt();
+                throw new ServiceUnavailableException("Interrupted while waiting for a database slot");
+            }
+
+            if (!waiter.granted) {
+                withdraw(waiter);
+                tenantStats.timedOut++;
+                throw new ServiceUnavailableException("Server is busy. Please try again shortly.");
+            }
+            tenantStats.queued++;
+            tenantStats.waitNanos += System.nanoTime() - start;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            grantNext();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void grantNext() {
+        Waiter next = queue.poll();
+        if (next == null) {
+            available++;
+            return;
+        }
+        virtualTime = next.start;
+        lastServed.put(next.tenant, next.finish);
+        next.granted = true;
+        next.signal.signal();
+    }
+
+    /**
+     * Removes a waiter that gave up and rolls its tenant's finish time back to the latest one
+     * still owed: its queued waiters, otherwise the last one served
+     */
+    private void withdraw(Waiter waiter) {
+        queue.remove(waiter);
+
+        double finish = lastServed.getOrDefault(waiter.tenant, 0.0);
+        for (Waiter queued : queue) {
+            if (queued.tenant.equals(waiter.tenant) && queued.finish > finish) {
+                finish = queued.finish;
+            }
+        }
+        lastFinish.put(waiter.tenant, finish);
+    }
+
+    /**
+     * Slots in use, queue depth and per-tenant admission counts ("" is callers without a tenant)
+     */
+    public Map<String, Object> snapshot() {
+        lock.lock();
+        try {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("enabled", enabled);
+            map.put("permits", permits);
+            map.put("inUse", permits - available);
+            map.put("queued", queue.size());
+
+            Map<String, Object> tenants = new LinkedHashMap<>();
+            stats.forEach((tenant, s) -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("immediate", s.immediate);
+                entry.put("queued", s.queued);
+                entry.put("timedOut", s.timedOut);
+                entry.put("avgQueueWaitMillis", s.queued == 0 ? 0.0 : s.waitNanos / 1_000_000.0 / s.queued);
+                tenants.put(tenant, entry);
+            });
+            map.put("tenants", tenants);
+            return map;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void reset() {
+        lock.lock();
+        try {
+            stats.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Waiter {
+        private final String tenant;
+        private final Condition signal;
+        private final double start;
+        private final double finish;
+        private final long sequence;
+        private boolean granted;
+
+        Waiter(String tenant, Condition signal, double start, double finish, long sequence) {
+            this.tenant = tenant;
+            this.signal = signal;
+            this.start = start;
+            this.finish = finish;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final class TenantStats {
+        private long immediate;
+        private long queued;
+        private long timedOut;
+        private long waitNanos;
+    }
+}
@@ -0,0 +1,166 @@
+package com.hirepro.common.controller;
+
+import com.hirepro.auth.security.AccountStatusRegistry;
+import com.hirepro.auth.security.LoginRateLimiter;
+import com.hirepro.auth.security.SlidingTokenRenewer;
+import com.hirepro.auth.util.PooledPasswordEncoder;
+import com.hirepro.clients.filter.TenantQuotaFilter;
+import com.hirepro.common.admission.TenantAdmissionScheduler;
+import com.hirepro.common.exception.BadRequestException;
+import com.hirepro.common.monitoring.ConnectionLeaseProfiler;
+import com.hirepro.common.pagination.ConcurrentCountExecutor;
+import com.hirepro.common.response.ApiResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/monitoring")
+@PreAuthorize("hasPermission(null, 'MONITORING_ACCESS')")
+public class MonitoringController {
+
+    private final ObjectProvider<ConnectionLeaseProfiler> connectionLeaseProfiler;
+    private final SlidingTokenRenewer slidingTokenRenewer;
+    private final LoginRateLimiter loginRateLimiter;
+    private final TenantQuotaFilter tenantQuotaFilter;
+    private final TenantAdmissionScheduler tenantAdmissionScheduler;
+    private final ConcurrentCountExecutor concurrentCountExecutor;
+    private final PooledPasswordEncoder passwordEncoder;
+    private final AccountStatusRegistry accountStatusRegistry;
+
+    public MonitoringController(ObjectProvider<ConnectionLeaseProfiler> connectionLeaseProfiler,
+                                SlidingTokenRenewer slidingTokenRenewer,
+                                LoginRateLimiter loginRateLimiter,
+                                TenantQuotaFilter tenantQuotaFilter,
+                                TenantAdmissionScheduler tenantAdmissionScheduler,
+                                ConcurrentCountExecutor concurrentCountExecutor,
+                                PooledPasswordEncoder passwordEncoder,
+                                AccountStatusRegistry accountStatusRegistry) {
+        this.connectionLeaseProfiler = connectionLeaseProfiler;
+        this.slidingTokenRenewer = slidingTokenRenewer;
+        this.loginRateLimiter = loginRateLimiter;
+        this.tenantQuotaFilter = tenantQuotaFilter;
+        this.tenantAdmissionScheduler = tenantAdmissionScheduler;
+        this.concurrentCountExecutor = concurrentCountExecutor;
+        this.passwordEncoder = passwordEncoder;
+        this.accountStatusRegistry = accountStatusRegistry;
+    }
+
+    @GetMapping("/connection-leases")
+    public ResponseEntity<ApiResponse<Map<String, Map<String, Object>>>> getConnectionLeases() {
+        return ResponseEntity.ok(
+                ApiResponse.success("Connection lease statistics retrieved successfully", leaseProfiler().snapshot())
+        );
+    }
+
+    @DeleteMapping("/connection-leases")
+    public ResponseEntity<ApiResponse<Void>> resetConnectionLeases() {
+        leaseProfiler().reset();
+        return ResponseEntity.ok(
+                ApiResponse.success("Connection lease statistics reset successfully")
+        );
+    }
+
+    @GetMapping("/token-renewals")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getTokenRenewals() {
+        return ResponseEntity.ok(
+                ApiResponse.success("Token renewal statistics retrieved successfully", slidingTokenRenewer.snapshot())
+        );
+    }
+
+    @DeleteMapping("/token-renewals")
+    public ResponseEntity<ApiResponse<Void>> resetTokenRenewals() {
+        slidingTokenRenewer.reset();
+        return ResponseEntity.ok(
+                ApiResponse.success("Token renewal statistics reset successfully")
+        );
+    }
+
+    @GetMapping("/login-rate-limits")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getLoginRateLimits() {
+        return ResponseEntity.ok(
+                ApiResponse.success("Login rate limit statistics retrieved successfully", loginRateLimiter.snapshot())
+        );
+    }
+
+    @DeleteMapping("/login-rate-limits")
+    public ResponseEntity<ApiResponse<Void>> resetLoginRateLimits() {
+        loginRateLimiter.reset();
+        return ResponseEntity.ok(
+                ApiResponse.success("Login rate limit statistics reset successfully")
+        );
+    }
+
+    @GetMapping("/tenant-quotas")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getTenantQuotas() {
+        return ResponseEntity.ok(
+                ApiResponse.success("Tenant quota statistics retrieved successfully", tenantQuotaFilter.snapshot())
+        );
+    }
+
+    @DeleteMapping("/tenant-quotas")
+    public ResponseEntity<ApiResponse<Void>> resetTenantQuotas() {
+        tenantQuotaFilter.reset();
+        return ResponseEntity.ok(
+                ApiResponse.success("Tenant quota statistics reset successfully")
+        );
+    }
+
+    @GetMapping("/tenant-admission")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getTenantAdmission() {
+        return ResponseEntity.ok(
+                ApiResponse.success("Tenant admission statistics retrieved successfully", tenantAdmissionScheduler.snapshot())
+        );
+    }
+
+    @DeleteMapping("/tenant-admission")
+    public ResponseEntity<ApiResponse<Void>> resetTenantAdmission() {
+        tenantAdmissionScheduler.reset();
+        return ResponseEntity.ok(
+                ApiResponse.success("Tenant admission statistics reset successfully")
+        );
+    }
+
+    @GetMapping("/concurrent-counts")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getConcurrentCounts() {
+        return ResponseEntity.ok(
+                ApiResponse.success("Concurrent count statistics retrieved successfully", concurrentCountExecutor.snapshot())
+        );
+    }
+
+    @GetMapping("/password-hashing")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getPasswordHashing() {
+        return ResponseEntity.ok(
+                ApiResponse.success("Password hashing statistics retrieved successfully", passwordEncoder.snapshot())
+        );
+    }
+
+    @DeleteMapping("/password-hashing")
+    public ResponseEntity<ApiResponse<Void>> resetPasswordHashing() {
+        passwordEncoder.reset();
+        return ResponseEntity.ok(
+                ApiResponse.success("Password hashing statistics reset successfully")
+        );
+    }
+
+    @GetMapping("/account-status")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getAccountStatus() {
+        return ResponseEntity.ok(
+                ApiResponse.success("Account status snapshot retrieved successfully", accountStatusRegistry.snapshot())
+        );
+    }
+
+    private ConnectionLeaseProfiler leaseProfiler() {
+        ConnectionLeaseProfiler profiler = connectionLeaseProfiler.getIfAvailable();
+        if (profiler == null) {
+            throw new BadRequestException("Connection lease profiler is disabled (app.db.lease-profiler.enabled=false)");
+        }
+        return profiler;
+    }
+}
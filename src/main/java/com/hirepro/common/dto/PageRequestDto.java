@@ -24,13 +24,29 @@ public class PageRequestDto {
 
     private String sortBy;
 
-    @Pattern(regexp = "ASC|DESC", message = "Sort direction must be either ASC or DESC")
+    @Pattern(regexp = "ASC|DESC", flags = Pattern.Flag.CASE_INSENSITIVE,
+            message = "Sort direction must be either ASC or DESC")
     private String sortDirection = "DESC";
 
     private String search;
 
     private Map<String, String> filters;
 
+    @Pattern(regexp = "offset|cursor", flags = Pattern.Flag.CASE_INSENSITIVE,
+            message = "Pagination must be either offset or cursor")
+    private String pagination = "offset";
+
+    // Opaque cursor from the previous page's metadata.nextCursor (cursor pagination only)
+    private String after;
+
+    @Pattern(regexp = "like|fulltext", flags = Pattern.Flag.CASE_INSENSITIVE,
+            message = "Search mode must be either like or fulltext")
+    private String searchMode = "like";
+
+    @Pattern(regexp = "exact|cached|none|concurrent", flags = Pattern.Flag.CASE_INSENSITIVE,
+            message = "Count must be exact, cached, none or concurrent")
+    private String count = "exact";
+
     public PageRequestDto() {
         this.filters = new HashMap<>();
     }
@@ -92,6 +108,46 @@ public class PageRequestDto {
         this.filters = filters;
     }
 
+    public String getPagination() {
+        return pagination;
+    }
+
+    public void setPagination(String pagination) {
+        this.pagination = pagination;
+    }
+
+    public boolean isCursorPagination() {
+        return "cursor".equalsIgnoreCase(pagination);
+    }
+
+    public String getAfter() {
+        return after;
+    }
+
+    public void setAfter(String after) {
+        this.after = after;
+    }
+
+    public String getSearchMode() {
+        return searchMode;
+    }
+
+    public void setSearchMode(String searchMode) {
+        this.searchMode = searchMode;
+    }
+
+    public boolean isFullTextSearch() {
+        return "fulltext".equalsIgnoreCase(searchMode);
+    }
+
+    public String getCount() {
+        return count;
+    }
+
+    public void setCount(String count) {
+        this.count = count;
+    }
+
     public void addFilter(String key, String value) {
         if (this.filters == null) {
             this.filters = new HashMap<>();
@@ -108,6 +164,10 @@ public class PageRequestDto {
                 ", sortDirection='" + sortDirection + '\'' +
                 ", search='" + search + '\'' +
                 ", filters=" + filters +
+                ", pagination='" + pagination + '\'' +
+                ", after='" + after + '\'' +
+                ", searchMode='" + searchMode + '\'' +
+                ", count='" + count + '\'' +
                 '}';
     }
 }
\ No newline at end of file
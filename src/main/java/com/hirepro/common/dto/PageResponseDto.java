@@ -48,17 +48,21 @@ public class PageResponseDto<T> {
     }
 
     /**
-     * Inner class to hold pagination metadata
+     * Inner class to hold pagination metadata.
+     * Cursor pages carry {@code nextCursor} and leave the page number and totals null;
+     * pages read without a count leave the totals null and report {@code hasNext} only.
      */
     public static class PageMetadata {
-        private int currentPage;
+        private Integer currentPage;
         private int pageSize;
-        private long totalElements;
-        private int totalPages;
+        private Long totalElements;
+        private Integer totalPages;
         private boolean first;
         private boolean last;
         private boolean hasNext;
         private boolean hasPrevious;
+        private String nextCursor;
+        private Boolean totalEstimated;
 
         public PageMetadata() {
         }
@@ -74,12 +78,40 @@ public class PageResponseDto<T> {
             this.hasPrevious = currentPage > 0;
         }
 
+        /**
+         * Metadata for an offset page read without a count
+         */
+        public static PageMetadata forSlice(int currentPage, int pageSize, boolean hasNext) {
+            PageMetadata metadata = new PageMetadata();
+            metadata.currentPage = currentPage;
+            metadata.pageSize = pageSize;
+            metadata.first = currentPage == 0;
+            metadata.hasPrevious = currentPage > 0;
+            metadata.hasNext = hasNext;
+            metadata.last = !hasNext;
+            return metadata;
+        }
+
+        /**
+         * Metadata for a keyset page; no totals are computed
+         */
+        public static PageMetadata forCursor(int pageSize, boolean firstPage, String nextCursor) {
+            PageMetadata metadata = new PageMetadata();
+            metadata.pageSize = pageSize;
+            metadata.first = firstPage;
+            metadata.hasPrevious = !firstPage;
+            metadata.hasNext = nextCursor != null;
+            metadata.last = nextCursor == null;
+            metadata.nextCursor = nextCursor;
+            return metadata;
+        }
+
         // Getters and Setters
-        public int getCurrentPage() {
+        public Integer getCurrentPage() {
             return currentPage;
         }
 
-        public void setCurrentPage(int currentPage) {
+        public void setCurrentPage(Integer currentPage) {
             this.currentPage = currentPage;
         }
 
@@ -91,19 +123,19 @@ public class PageResponseDto<T> {
             this.pageSize = pageSize;
         }
 
-        public long getTotalElements() {
+        public Long getTotalElements() {
             return totalElements;
         }
 
-        public void setTotalElements(long totalElements) {
+        public void setTotalElements(Long totalElements) {
             this.totalElements = totalElements;
         }
 
-        public int getTotalPages() {
+        public Integer getTotalPages() {
             return totalPages;
         }
 
-        public void setTotalPages(int totalPages) {
+        public void setTotalPages(Integer totalPages) {
             this.totalPages = totalPages;
         }
 
@@ -138,5 +170,24 @@ public class PageResponseDto<T> {
         public void setHasPrevious(boolean hasPrevious) {
             this.hasPrevious = hasPrevious;
         }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+
+        public void setNextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+        }
+
+        /**
+         * True when the totals are an estimate because the count did not finish in time; null otherwise
+         */
+        public Boolean getTotalEstimated() {
+            return totalEstimated;
+        }
+
+        public void setTotalEstimated(Boolean totalEstimated) {
+            this.totalEstimated = totalEstimated;
+        }
     }
 }
\ No newline at end of file
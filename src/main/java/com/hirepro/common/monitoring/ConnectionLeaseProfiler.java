@@ -0,0 +1,235 @@
+package com.hirepro.common.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures how long each endpoint keeps a pooled JDBC connection and how much of that time
+ * is spent in actual JDBC calls. When a lease spends more than the configured threshold
+ * outside JDBC (hashing, signing, remote calls...) a warning is logged, because that time
+ * blocks other requests from the small Hikari pool.
+ *
+ * <p>Enabled with {@code app.db.lease-profiler.enabled=true}; wraps the DataSource bean.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.db.lease-profiler", name = "enabled", havingValue = "true")
+public class ConnectionLeaseProfiler implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionLeaseProfiler.class);
+
+    private static final int MAX_TRACKED_ENDPOINTS = 500;
+    private static final String OTHER_ENDPOINTS = "other";
+    private static final String BACKGROUND = "background";
+
+    private static final Set<String> TIMED_CONNECTION_METHODS = Set.of("commit", "rollback");
+    private static final Set<String> TIMED_STATEMENT_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final long nonDbWarnNanos;
+    private final Map<String, LeaseStats> statsByEndpoint = new ConcurrentHashMap<>();
+
+    public ConnectionLeaseProfiler(@Value("${app.db.lease-profiler.non-db-warn-millis:50}") long nonDbWarnMillis) {
+        this.nonDbWarnNanos = TimeUnit.MILLISECONDS.toNanos(nonDbWarnMillis);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProfilingDataSource)) {
+            log.info("Connection lease profiling enabled for DataSource '{}'", beanName);
+            return new ProfilingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    /**
+     * Per-endpoint lease statistics, sorted by total hold time (highest first)
+     */
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        statsByEndpoint.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LeaseStats> e) -> e.getValue().totalHoldNanos.sum())
+                        .reversed())
+                .forEach(e -> result.put(e.getKey(), e.getValue().toMap()));
+        return result;
+    }
+
+    public void reset() {
+        statsByEndpoint.clear();
+    }
+
+    private void record(String endpoint, long holdNanos, long dbNanos) {
+        LeaseStats stats = statsByEndpoint.get(endpoint);
+        if (stats == null) {
+            String key = statsByEndpoint.size() < MAX_TRACKED_ENDPOINTS ? endpoint : OTHER_ENDPOINTS;
+            stats = statsByEndpoint.computeIfAbsent(key, k -> new LeaseStats());
+        }
+        stats.record(holdNanos, dbNanos);
+
+        long nonDbNanos = holdNanos - dbNanos;
+        if (nonDbNanos > nonDbWarnNanos) {
+            stats.warnings.increment();
+            log.warn("Connection held {} ms by {} but only {} ms were spent in JDBC calls",
+                    TimeUnit.NANOSECONDS.toMillis(holdNanos), endpoint, TimeUnit.NANOSECONDS.toMillis(dbNanos));
+        }
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return BACKGROUND;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = pattern != null ? pattern.toString() : request.getRequestURI();
+        return request.getMethod() + " " + path;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class ProfilingDataSource extends DelegatingDataSource {
+
+        ProfilingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return lease(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return lease(super.getConnection(username, password));
+        }
+
+        private Connection lease(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new ConnectionLease(connection, currentEndpoint()));
+        }
+    }
+
+    private class ConnectionLease implements InvocationHandler {
+
+        private final Connection target;
+        private final String endpoint;
+        private final long acquiredAt = System.nanoTime();
+        private long dbNanos;
+        private boolean closed;
+
+        ConnectionLease(Connection target, String endpoint) {
+            this.target = target;
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+
+            if ("close".equals(name)) {
+                if (!closed) {
+                    closed = true;
+                    record(endpoint, System.nanoTime() - acquiredAt, dbNanos);
+                }
+                return ConnectionLeaseProfiler.invoke(target, method, args);
+            }
+
+            if (TIMED_CONNECTION_METHODS.contains(name)) {
+                return timed(target, method, args);
+            }
+
+            Object result = ConnectionLeaseProfiler.invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                return wrapStatement(statement);
+            }
+            return result;
+        }
+
+        private Object timed(Object delegate, Method method, Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return ConnectionLeaseProfiler.invoke(delegate, method, args);
+            } finally {
+                dbNanos += System.nanoTime() - start;
+            }
+        }
+
+        private Statement wrapStatement(Statement statement) {
+            Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                    : statement instanceof PreparedStatement ? PreparedStatement.class
+                    : Statement.class;
+            return (Statement) Proxy.newProxyInstance(
+                    Statement.class.getClassLoader(),
+                    new Class<?>[]{type},
+                    (proxy, method, args) -> TIMED_STATEMENT_METHODS.contains(method.getName())
+                            ? timed(statement, method, args)
+                            : ConnectionLeaseProfiler.invoke(statement, method, args));
+        }
+    }
+
+    private static class LeaseStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalHoldNanos = new LongAdder();
+        private final LongAdder totalDbNanos = new LongAdder();
+        private final LongAdder warnings = new LongAdder();
+        private final AtomicLong maxHoldNanos = new AtomicLong();
+
+        void record(long holdNanos, long dbNanos) {
+            count.increment();
+            totalHoldNanos.add(holdNanos);
+            totalDbNanos.add(dbNanos);
+            maxHoldNanos.accumulateAndGet(holdNanos, Math::max);
+        }
+
+        Map<String, Object> toMap() {
+            long leases = count.sum();
+            long hold = totalHoldNanos.sum();
+            long db = totalDbNanos.sum();
+
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("leases", leases);
+            map.put("totalHoldMillis", TimeUnit.NANOSECONDS.toMillis(hold));
+            map.put("avgHoldMillis", leases == 0 ? 0.0 : hold / 1_000_000.0 / leases);
+            map.put("maxHoldMillis", TimeUnit.NANOSECONDS.toMillis(maxHoldNanos.get()));
+            map.put("avgNonDbMillis", leases == 0 ? 0.0 : (hold - db) / 1_000_000.0 / leases);
+            map.put("nonDbWarnings", warnings.sum());
+            return map;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.hirepro.common.pagination;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Small bounded pool that runs COUNT queries while the request thread reads the page.
+ * Each count borrows its own pooled connection, so the thread count bounds how many extra
+ * connections list requests can hold at once. When the pool and its queue are full, or a count
+ * is not done within the timeout, the caller gets null and reports an estimated total.
+ *
+ * <p>Counts run outside the caller's admission slot, so startup fails unless admission permits plus
+ * count threads stay below the Hikari pool size: the remainder is left for work that is not admitted
+ * (login, token refresh, background flushes and polls).</p>
+ */
+@Component
+public class ConcurrentCountExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrentCountExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public ConcurrentCountExecutor(@Value("${app.pagination.concurrent-count.threads:2}") int threads,
+                                   @Value("${app.pagination.concurrent-count.queue-capacity:16}") int queueCapacity,
+                                   @Value("${app.pagination.concurrent-count.timeout-ms:1000}") long timeoutMillis,
+                                   @Value("${app.admission.enabled:true}") boolean admissionEnabled,
+                                   @Value("${app.admission.permits:6}") int admissionPermits,
+                                   @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        if (admissionEnabled && admissionPermits + threads >= poolSize) {
+            throw new IllegalStateException("app.admission.permits (" + admissionPermits
+                    + ") + app.pagination.concurrent-count.threads (" + threads
+                    + ") must be below spring.datasource.hikari.maximum-pool-size (" + poolSize
+                    + ") to leave connections for login and refresh");
+        }
+        AtomicInteger index = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "page-count-" + index.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Starts the count, or returns null when the executor is saturated
+     */
+    public CompletableFuture<Long> submit(LongSupplier counter) {
+        try {
+            return CompletableFuture.supplyAsync(counter::getAsLong, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Waits up to the configured timeout; returns null when the count is not available in time
+     */
+    public Long await(CompletableFuture<Long> count) {
+        if (count == null) {
+            return null;
+        }
+        try {
+            Long total = count.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            completed.increment();
+            return total;
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.warn("Concurrent count failed: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return null;
+        }
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("completed", completed.sum());
+        map.put("timedOut", timedOut.sum());
+        map.put("rejected", rejected.sum());
+        map.put("active", executor.getActiveCount());
+        map.put("queued", executor.getQueue().size());
+        return map;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,30 @@
+package com.hirepro.common.pagination;
+
+import com.hirepro.common.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * How a paginated list endpoint obtains its total.
+ * EXACT runs a COUNT with every page, CACHED reuses a total for the same filter until the table
+ * is written to, and NONE skips the count and only reports whether another page exists.
+ * CONCURRENT runs the exact COUNT alongside the page query and falls back to an estimate
+ * when it does not finish in time.
+ */
+public enum CountMode {
+    EXACT,
+    CACHED,
+    NONE,
+    CONCURRENT;
+
+    public static CountMode from(String value) {
+        if (value == null || value.isEmpty()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Count must be exact, cached, none or concurrent");
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.hirepro.common.pagination;
+
+import com.hirepro.common.util.FilterSchema;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Cached list totals per table and normalized filter.
+ * A write to the table (through {@link #invalidate}) drops every total for it after commit.
+ * Each table has a generation number, so a count started before a write is not stored after it.
+ * Writes made by other instances are only seen once an entry's TTL expires.
+ */
+@Component
+public class PageCountCache {
+
+    private final long ttlMillis;
+    private final int maxEntriesPerTable;
+    private final Map<String, Table> tables = new ConcurrentHashMap<>();
+
+    public PageCountCache(@Value("${app.pagination.count-cache.ttl-ms:30000}") long ttlMillis,
+                          @Value("${app.pagination.count-cache.max-entries:1000}") int maxEntriesPerTable) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntriesPerTable = maxEntriesPerTable;
+    }
+
+    /**
+     * Cache key for a search term and filter map, independent of parameter order and case of the search
+     */
+    public static String key(String search, Map<String, String> filters) {
+        StringBuilder key = new StringBuilder();
+        key.append(search == null ? "" : search.trim().toLowerCase());
+        if (filters != null) {
+            new TreeMap<>(filters).forEach((field, value) -> {
+                if (value != null && (!value.trim().isEmpty() || FilterSchema.hasUnaryOperator(field))) {
+                    key.append('\u0000').append(field).append('=').append(value.trim());
+                }
+            });
+        }
+        return key.toString();
+    }
+
+    public long get(String table, String key, LongSupplier counter) {
+        Long cached = peek(table, key);
+        return cached != null ? cached : refresh(table, key, counter);
+    }
+
+    /**
+     * Cached total, or null when there is none or it has expired
+     */
+    public Long peek(String table, String key) {
+        Table entries = tables.get(table);
+        Entry entry = entries != null ? entries.totals.get(key) : null;
+        return entry != null && entry.expiresAt > System.currentTimeMillis() ? entry.total : null;
+    }
+
+    /**
+     * Always counts, and stores the result unless the table was written to meanwhile
+     */
+    public long refresh(String table, String key, LongSupplier counter) {
+        Table entries = tables.computeIfAbsent(table, t -> new Table());
+        long generation = entries.generation.get();
+        long total = counter.getAsLong();
+        put(entries, key, total, generation, System.currentTimeMillis());
+        return total;
+    }
+
+    /**
+     * Current write generation of a table. Read it before the query whose result is passed to
+     * {@link #put(String, String, long, long)}, so a write committed in between is detected.
+     */
+    public long generation(String table) {
+        return tables.computeIfAbsent(table, t -> new Table()).generation.get();
+    }
+
+    /**
+     * Stores a total learned without a COUNT (e.g. from reaching the last page), unless the table
+     * was written to since {@code generation} was read
+     */
+    public void put(String table, String key, long total, long generation) {
+        Table entries = tables.computeIfAbsent(table, t -> new Table());
+        put(entries, key, total, generation, System.currentTimeMillis());
+    }
+
+    /**
+     * Drops all totals for a table; inside a transaction this happens after commit
+     */
+    public void invalidate(String table) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear(table);
+                }
+            });
+        } else {
+            clear(table);
+        }
+    }
+
+    private void put(Table entries, String key, long total, long generation, long now) {
+        if (entries.totals.size() >= maxEntriesPerTable) {
+            entries.totals.clear();
+        }
+        entries.totals.put(key, new Entry(total, now + ttlMillis));
+        if (entries.generation.get() != generation) {
+            entries.totals.remove(key);
+        }
+    }
+
+    private void clear(String table) {
+        Table entries = tables.get(table);
+        if (entries != null) {
+            entries.generation.incrementAndGet();
+            entries.totals.clear();
+        }
+    }
+
+    private static final class Table {
+        private final AtomicLong generation = new AtomicLong();
+        private final Map<String, Entry> totals = new ConcurrentHashMap<>();
+    }
+
+    private static final class Entry {
+        private final long total;
+        private final long expiresAt;
+
+        Entry(long total, long expiresAt) {
+            this.total = total;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.hirepro.common.util;
+
+import java.util.Locale;
+
+/**
+ * Comparison operators accepted in {@code filter.<field>:<op>} parameters.
+ *
+ * @author HirePro Team
+ * @version 1.0
+ */
+public enum FilterOperator {
+    EQ,
+    NE,
+    GT,
+    GTE,
+    LT,
+    LTE,
+    LIKE,
+    IN,
+    ISNULL,
+    ISNOTNULL;
+
+    /**
+     * Operators without an operand; their value is only {@code true} (or blank) or {@code false}
+     */
+    public boolean isUnary() {
+        return this == ISNULL || this == ISNOTNULL;
+    }
+
+    /**
+     * @return the operator, or null if the name is not one of the supported operators
+     */
+    public static FilterOperator fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.hirepro.common.util;
+
+import com.hirepro.common.exception.BadRequestException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The filterable fields of one entity, declared once with their type and allowed operators.
+ * Only fields backed by an index should be declared; anything else is rejected with 400 before
+ * a query is built.
+ *
+ * <p>Filter keys have the form {@code [group.]*field[:op]}. A group segment is {@code or.<name>}
+ * or {@code and.<name>}: keys sharing the same group path are combined with that group's logic,
+ * and groups nest. The top level is AND. For example
+ * {@code status=ACTIVE, or.r.regions=USIT, or.r.subscriptionPlan=ENTERPRISE} means
+ * {@code status = ACTIVE AND (regions = USIT OR subscriptionPlan = ENTERPRISE)}.</p>
+ *
+ * <p>{@code isnull} and {@code isnotnull} take no operand: a blank value or {@code true} applies the test,
+ * {@code false} negates it, and anything else is rejected.</p>
+ *
+ * <p>Parsing and validation happen once per filter shape (the sorted set of keys, without values);
+ * the compiled plan is cached, so a request only converts its values and binds them.</p>
+ *
+ * @param <T> Entity type
+ * @author HirePro Team
+ * @version 1.0
+ */
+public final class FilterSchema<T> {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final int MAX_CACHED_PLANS = 256;
+    private static final int MAX_TERMS = 20;
+
+    private final Map<String, FieldDef> fields;
+    private final Map<String, Plan> plans = new ConcurrentHashMap<>();
+
+    private FilterSchema(Map<String, FieldDef> fields) {
+        this.fields = fields;
+    }
+
+    public static <T> Builder<T> builder(Class<T> entityClass) {
+        return new Builder<>();
+    }
+
+    /**
+     * Builds a specification for the given filters, compiling and caching the plan for their shape.
+     *
+     * @param filters Map of filter keys to values; blank values are ignored except for unary operators
+     * @return Specification combining all filters
+     * @throws BadRequestException for unknown fields, unsupported operators or unparsable values
+     */
+    public Specification<T> toSpecification(Map<String, String> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return null;
+        }
+
+        TreeMap<String, String> present = new TreeMap<>();
+        filters.forEach((key, value) -> {
+            if (value != null && !value.trim().isEmpty()) {
+                present.put(key, value.trim());
+            } else if (hasUnaryOperator(key)) {
+                present.put(key, "");
+            }
+        });
+        if (present.isEmpty()) {
+            return null;
+        }
+        if (present.size() > MAX_TERMS) {
+            throw new BadRequestException("At most " + MAX_TERMS + " filters are allowed");
+        }
+
+        String shape = String.join("&", present.keySet());
+        Plan plan = plans.get(shape);
+        if (plan == null) {
+            plan = compile(new ArrayList<>(present.keySet()));
+            if (plans.size() >= MAX_CACHED_PLANS) {
+                plans.clear();
+            }
+            plans.put(shape, plan);
+        }
+
+        Object[] values = new Object[plan.terms.size()];
+        int i = 0;
+        for (String value : present.values()) {
+            values[i] = plan.terms.get(i).bind(value);
+            i++;
+        }
+
+        Plan compiled = plan;
+        return (root, query, criteriaBuilder) -> compiled.root.toPredicate(root, criteriaBuilder, values);
+    }
+
+    public Set<String> getFieldNames() {
+        return fields.keySet();
+    }
+
+    /**
+     * Whether a filter key ends in an operator that takes no operand, so a blank value still counts
+     */
+    public static boolean hasUnaryOperator(String key) {
+        int colon = key.lastIndexOf(':');
+        if (colon < 0 || key.indexOf('.', colon) >= 0) {
+            return false;
+        }
+        FilterOperator operator = FilterOperator.fromName(key.substring(colon + 1));
+        return operator != null && operator.isUnary();
+    }
+
+    private Plan compile(List<String> sortedKeys) {
+        Group top = new Group(false);
+        Map<String, Group> groups = new HashMap<>();
+        List<Term> terms = new ArrayList<>(sortedKeys.size());
+
+        for (int index = 0; index < sortedKeys.size(); index++) {
+            String key = sortedKeys.get(index);
+            String[] segments = key.split("\\.");
+
+            Group group = top;
+            StringBuilder path = new StringBuilder();
+            int s = 0;
+            while (s < segments.length - 1 && ("or".equals(segments[s]) || "and".equals(segments[s]))) {
+                if (s + 1 >= segments.length - 1) {
+                    throw new BadRequestException("Filter group '" + segments[s] + "' needs a name and a field: " + key);
+                }
+                boolean or = "or".equals(segments[s]);
+                path.append(segments[s]).append('.').append(segments[s + 1]).append('.');
+                Group parent = group;
+                group = groups.computeIfAbsent(path.toString(), p -> {
+                    Group child = new Group(or);
+                    parent.children.add(child);
+                    return child;
+                });
+                s += 2;
+            }
+            if (s != segments.length - 1) {
+                throw new BadRequestException("Invalid filter key: " + key);
+            }
+
+            Term term = term(segments[s], index);
+            group.children.add(term);
+            terms.add(term);
+        }
+        return new Plan(top, terms);
+    }
+
+    private Term term(String fieldAndOperator, int index) {
+        int colon = fieldAndOperator.indexOf(':');
+        String name = colon < 0 ? fieldAndOperator : fieldAndOperator.substring(0, colon);
+        String operatorName = colon < 0 ? "eq" : fieldAndOperator.substring(colon + 1);
+
+        FieldDef field = fields.get(name);
+        if (field == null) {
+            throw new BadRequestException("Filtering on '" + name + "' is not supported. Allowed fields: " + fields.keySet());
+        }
+        FilterOperator operator = FilterOperator.fromName(operatorName);
+        if (operator == null || !field.operators.contains(operator)) {
+            throw new BadRequestException("Operator '" + operatorName + "' is not supported for '" + name
+                    + "'. Allowed: " + field.operators.toString().toLowerCase());
+        }
+        return new Term(field, operator, index);
+    }
+
+    private interface Node {
+        Predicate toPredicate(Root<?> root, CriteriaBuilder criteriaBuilder, Object[] values);
+    }
+
+    private static final class Plan {
+        private final Group root;
+        private final List<Term> terms;
+
+        Plan(Group root, List<Term> terms) {
+            this.root = root;
+            this.terms = terms;
+        }
+    }
+
+    private static final class Group implements Node {
+        private final boolean or;
+        private final List<Node> children = new ArrayList<>();
+
+        Group(boolean or) {
+            this.or = or;
+        }
+
+        @Override
+        public Predicate toPredicate(Root<?> root, CriteriaBuilder criteriaBuilder, Object[] values) {
+            Predicate[] predicates = new Predicate[children.size()];
+            for (int i = 0; i < predicates.length; i++) {
+                predicates[i] = children.get(i).toPredicate(root, criteriaBuilder, values);
+            }
+            return or ? criteriaBuilder.or(predicates) : criteriaBuilder.and(predicates);
+        }
+    }
+
+    private static final class Term implements Node {
+        private final FieldDef field;
+        private final FilterOperator operator;
+        private final int index;
+
+        Term(FieldDef field, FilterOperator operator, int index) {
+            this.field = field;
+            this.operator = operator;
+            this.index = index;
+        }
+
+        Object bind(String raw) {
+            if (operator.isUnary()) {
+                if (raw.isEmpty() || "true".equalsIgnoreCase(raw)) {
+                    return Boolean.TRUE;
+                }
+                if ("false".equalsIgnoreCase(raw)) {
+                    return Boolean.FALSE;
+                }
+                throw new BadRequestException("Filter '" + field.name + ":" + operator.name().toLowerCase()
+                        + "' takes true or false: " + raw);
+            }
+            if (operator == FilterOperator.LIKE) {
+                return "%" + raw.toLowerCase() + "%";
+            }
+            if (operator == FilterOperator.IN) {
+                List<Object> values = new ArrayList<>();
+                for (String part : raw.split(",")) {
+                    if (!part.trim().isEmpty()) {
+                        values.add(field.parse(part.trim()));
+                    }
+                }
+                return values;
+            }
+            return field.parse(raw);
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Predicate toPredicate(Root<?> root, CriteriaBuilder criteriaBuilder, Object[] values) {
+            Path path = root.get(field.name);
+            Object value = values[index];
+            switch (operator) {
+                case EQ:
+                    return criteriaBuilder.equal(path, value);
+                case NE:
+                    return criteriaBuilder.notEqual(path, value);
+                case GT:
+                    return criteriaBuilder.greaterThan(path, (Comparable) value);
+                case GTE:
+                    return criteriaBuilder.greaterThanOrEqualTo(path, (Comparable) value);
+                case LT:
+                    return criteriaBuilder.lessThan(path, (Comparable) value);
+                case LTE:
+                    return criteriaBuilder.lessThanOrEqualTo(path, (Comparable) value);
+                case LIKE:
+                    return criteriaBuilder.like(criteriaBuilder.lower((Expression<String>) path), (String) value);
+                case IN:
+                    return path.in((List<Object>) value);
+                case ISNULL:
+                    return Boolean.TRUE.equals(value) ? criteriaBuilder.isNull(path) : criteriaBuilder.isNotNull(path);
+                case ISNOTNULL:
+                    return Boolean.TRUE.equals(value) ? criteriaBuilder.isNotNull(path) : criteriaBuilder.isNull(path);
+                default:
+                    throw new IllegalStateException("Unhandled operator " + operator);
+            }
+        }
+    }
+
+    private static final class FieldDef {
+        private final String name;
+        private final Set<FilterOperator> operators;
+        private final Function<String, Object> parser;
+
+        FieldDef(String name, Set<FilterOperator> operators, Function<String, Object> parser) {
+            this.name = name;
+            this.operators = operators;
+            this.parser = parser;
+        }
+
+        Object parse(String raw) {
+            try {
+                return parser.apply(raw);
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                throw new BadRequestException("Invalid value for filter '" + name + "': " + raw);
+            }
+        }
+    }
+
+    /**
+     * Declares the filterable fields of an entity
+     *
+     * @param <T> Entity type
+     */
+    public static final class Builder<T> {
+        private final Map<String, FieldDef> fields = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder<T> field(String name, Class<?> type, FilterOperator... operators) {
+            Set<FilterOperator> allowed = EnumSet.noneOf(FilterOperator.class);
+            Collections.addAll(allowed, operators);
+            fields.put(name, new FieldDef(name, Collections.unmodifiableSet(allowed), parserFor(type)));
+            return this;
+        }
+
+        public FilterSchema<T> build() {
+            return new FilterSchema<>(Collections.unmodifiableMap(new LinkedHashMap<>(fields)));
+        }
+
+        private static Function<String, Object> parserFor(Class<?> type) {
+            if (type == String.class) {
+                return value -> value;
+            } else if (type == LocalDateTime.class) {
+                return value -> LocalDateTime.parse(value, DATE_TIME_FORMATTER);
+            } else if (type == LocalDate.class) {
+                return value -> LocalDate.parse(value, DATE_FORMATTER);
+            } else if (type == Long.class) {
+                return Long::valueOf;
+            } else if (type == Integer.class) {
+                return Integer::valueOf;
+            } else if (type == Double.class) {
+                return Double::valueOf;
+            } else if (type == Boolean.class) {
+                return Boolean::valueOf;
+            }
+            throw new IllegalArgumentException("Unsupported filter field type: " + type.getName());
+        }
+    }
+}
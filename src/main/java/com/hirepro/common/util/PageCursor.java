@@ -0,0 +1,74 @@
+package com.hirepro.common.util;
+
+import com.hirepro.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor: the sort field, direction, and the sort value and id of the last row returned.
+ * Encoded as URL-safe Base64 so clients treat it as a token rather than something to build.
+ *
+ * @author HirePro Team
+ * @version 1.0
+ */
+public final class PageCursor {
+
+    private static final String VERSION = "c1";
+    private static final String SEPARATOR = "|";
+
+    private final String sortBy;
+    private final String sortDirection;
+    private final String id;
+    private final String value;
+
+    public PageCursor(String sortBy, String sortDirection, String id, String value) {
+        this.sortBy = sortBy;
+        this.sortDirection = sortDirection;
+        this.id = id;
+        this.value = value;
+    }
+
+    public String encode() {
+        // The value goes last because it is the only part that may contain the separator
+        String raw = String.join(SEPARATOR, VERSION, sortBy, sortDirection, id, value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor and checks that it was issued for the same sort
+     *
+     * @throws BadRequestException if the cursor is malformed or belongs to a different sort
+     */
+    public static PageCursor decode(String token, String sortBy, String sortDirection) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 5);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+        if (!parts[1].equals(sortBy) || !parts[2].equalsIgnoreCase(sortDirection)) {
+            throw new BadRequestException("Pagination cursor does not match the requested sort");
+        }
+        return new PageCursor(parts[1], parts[2], parts[3], parts[4]);
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public String getSortDirection() {
+        return sortDirection;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
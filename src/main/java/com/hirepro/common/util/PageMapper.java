@@ -2,6 +2,7 @@ package com.hirepro.common.util;
 
 import com.hirepro.common.dto.PageResponseDto;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.function.Function;
@@ -60,6 +61,31 @@ public class PageMapper {
         return new PageResponseDto<>(content, metadata);
     }
 
+    /**
+     * Converts a Spring Data Slice to PageResponseDto using ModelMapper.
+     * The metadata has no totals, only whether a next page exists.
+     *
+     * @param <T> Source type (usually entity)
+     * @param <R> Target type (usually DTO)
+     * @param slice Spring Data Slice object
+     * @param modelMapper ModelMapper instance
+     * @param targetClass Target class for mapping
+     * @return PageResponseDto with mapped content
+     */
+    public static <T, R> PageResponseDto<R> toSliceResponse(
+            Slice<T> slice,
+            org.modelmapper.ModelMapper modelMapper,
+            Class<R> targetClass) {
+
+        List<R> content = slice.getContent()
+                .stream()
+                .map(entity -> modelMapper.map(entity, targetClass))
+                .collect(Collectors.toList());
+
+        return new PageResponseDto<>(content,
+                PageResponseDto.PageMetadata.forSlice(slice.getNumber(), slice.getSize(), slice.hasNext()));
+    }
+
     /**
      * Converts a Spring Data Page to PageResponseDto using ModelMapper.
      *
@@ -2,8 +2,11 @@ package com.hirepro.common.util;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
@@ -11,7 +14,9 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Utility class for building dynamic JPA Specifications for filtering entities.
@@ -25,6 +30,12 @@ public class SpecificationBuilder {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
+    // InnoDB's default full-text stopwords (INFORMATION_SCHEMA.INNODB_FT_DEFAULT_STOPWORD); never indexed
+    private static final Set<String> INNODB_STOPWORDS = Set.of(
+            "a", "about", "an", "are", "as", "at", "be", "by", "com", "de", "en", "for", "from", "how", "i",
+            "in", "is", "it", "la", "of", "on", "or", "that", "the", "this", "to", "was", "what", "when",
+            "where", "who", "will", "with", "und", "www");
+
     /**
      * Builds a specification that excludes soft-deleted records.
      *
@@ -66,6 +77,69 @@ public class SpecificationBuilder {
         };
     }
 
+    /**
+     * Builds a specification for MySQL FULLTEXT search using {@code MATCH ... AGAINST} in boolean mode.
+     * Every indexable word of the search term must match, as a prefix. The fields must be exactly the
+     * columns of a FULLTEXT index, in the index's order.
+     *
+     * @param <T> Entity type
+     * @param searchTerm Search term to look for
+     * @param orderByRelevance Whether to order results by relevance (ignored for count queries)
+     * @param searchableFields Fields covered by the FULLTEXT index
+     * @return Specification for full-text search
+     */
+    public static <T> Specification<T> fullTextSearch(String searchTerm, boolean orderByRelevance,
+                                                      String... searchableFields) {
+        String booleanQuery = toBooleanModeQuery(searchTerm);
+        return (root, query, criteriaBuilder) -> {
+            if (booleanQuery == null) {
+                return criteriaBuilder.conjunction();
+            }
+
+            Expression<?>[] arguments = new Expression<?>[searchableFields.length + 1];
+            for (int i = 0; i < searchableFields.length; i++) {
+                arguments[i] = root.get(searchableFields[i]);
+            }
+            // Bound rather than inlined, so every search shares one statement shape
+            arguments[searchableFields.length] = ((HibernateCriteriaBuilder) criteriaBuilder).value(booleanQuery);
+            Expression<Double> relevance = criteriaBuilder.function("match_against", Double.class, arguments);
+
+            if (orderByRelevance && query.getResultType() != Long.class && query.getResultType() != long.class) {
+                query.orderBy(criteriaBuilder.desc(relevance), criteriaBuilder.desc(root.get("id")));
+            }
+            return criteriaBuilder.greaterThan(relevance, 0.0);
+        };
+    }
+
+    /**
+     * Turns free text into a boolean-mode query requiring every word as a prefix ({@code +word*}).
+     * Operator characters are stripped, and words shorter than InnoDB's default minimum token
+     * size (3) are dropped because the index does not contain them. Stopwords are not indexed
+     * either, so requiring one would miss rows that contain it; they stay as optional prefixes
+     * ({@code word*}) that only add relevance.
+     *
+     * @param searchTerm Free-text search term
+     * @return Boolean-mode query, or null if no indexable word remains
+     */
+    public static String toBooleanModeQuery(String searchTerm) {
+        if (searchTerm == null) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        for (String word : searchTerm.replaceAll("[+\\-<>()~*\"@]", " ").trim().split("\\s+")) {
+            if (word.length() >= 3) {
+                if (query.length() > 0) {
+                    query.append(' ');
+                }
+                if (!INNODB_STOPWORDS.contains(word.toLowerCase(Locale.ROOT))) {
+                    query.append('+');
+                }
+                query.append(word).append('*');
+            }
+        }
+        return query.length() > 0 ? query.toString() : null;
+    }
+
     /**
      * Builds a specification based on multiple filter criteria.
      * Supports various operators: eq, ne, gt, gte, lt, lte, like, in
@@ -73,7 +147,10 @@ public class SpecificationBuilder {
      * @param <T> Entity type
      * @param filters Map of field names to filter values
      * @return Specification for filtering
+     * @deprecated accepts any attribute and resolves types on every call; declare the entity's
+     * filterable fields in a {@link FilterSchema} instead
      */
+    @Deprecated
     public static <T> Specification<T> withFilters(Map<String, String> filters) {
         return (root, query, criteriaBuilder) -> {
             if (filters == null || filters.isEmpty()) {
@@ -255,6 +332,49 @@ public class SpecificationBuilder {
         }
     }
 
+    /**
+     * Builds a keyset (seek) predicate that continues after the given row, for use with
+     * ORDER BY field, id in the same direction. The value is converted with the same
+     * type detection as the comparison filters.
+     *
+     * @param <T> Entity type
+     * @param field Sort field
+     * @param value Sort value of the last row returned, as text
+     * @param id Id of the last row returned (tie-breaker)
+     * @param ascending Sort direction
+     * @return Specification matching rows strictly after the cursor
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> seekAfter(String field, String value, String id, boolean ascending) {
+        return (root, query, criteriaBuilder) -> {
+            Path<String> idPath = root.get("id");
+            Predicate afterId = ascending
+                    ? criteriaBuilder.greaterThan(idPath, id)
+                    : criteriaBuilder.lessThan(idPath, id);
+            if ("id".equals(field)) {
+                return afterId;
+            }
+
+            Path key = root.get(field);
+            Comparable typed = toComparable(key.getJavaType(), value);
+            Predicate beyond = ascending
+                    ? criteriaBuilder.greaterThan(key, typed)
+                    : criteriaBuilder.lessThan(key, typed);
+            return criteriaBuilder.or(beyond, criteriaBuilder.and(criteriaBuilder.equal(key, typed), afterId));
+        };
+    }
+
+    private static Comparable<?> toComparable(Class<?> fieldType, String value) {
+        if (fieldType.equals(LocalDateTime.class)) {
+            return LocalDateTime.parse(value, DATE_TIME_FORMATTER);
+        } else if (fieldType.equals(LocalDate.class)) {
+            return LocalDate.parse(value, DATE_FORMATTER);
+        } else if (Number.class.isAssignableFrom(fieldType)) {
+            return Double.parseDouble(value);
+        }
+        return value;
+    }
+
     /**
      * Combines multiple specifications with AND logic.
      */
@@ -1,5 +1,6 @@
 package com.hirepro.common.util;
 
+import com.github.f4b6a3.ulid.Ulid;
 import com.github.f4b6a3.ulid.UlidCreator;
 
 /**
@@ -15,4 +16,21 @@ public class UlidGenerator {
     public static String generate() {
         return UlidCreator.getUlid().toString();
     }
+
+    /**
+     * Generates a ULID string whose timestamp part is the given time
+     * @param timeMillis epoch milliseconds to embed
+     * @return ULID string (26 characters)
+     */
+    public static String generate(long timeMillis) {
+        return UlidCreator.getUlid(timeMillis).toString();
+    }
+
+    /**
+     * Reads the millisecond timestamp embedded in a ULID string
+     * @return epoch milliseconds, or -1 if the value is not a valid ULID
+     */
+    public static long timestampOf(String ulid) {
+        return ulid != null && Ulid.isValid(ulid) ? Ulid.getTime(ulid) : -1L;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.hirepro.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.query.ReturnableType;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.util.List;
+
+/**
+ * Registers {@code match_against(col1, ..., colN, query)} for HQL and criteria queries, rendered as
+ * MySQL {@code MATCH(col1, ..., colN) AGAINST(query IN BOOLEAN MODE)} and returning the relevance score.
+ * The column list must be exactly the columns of a FULLTEXT index.
+ *
+ * <p>Loaded by Hibernate through {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.</p>
+ */
+public class MySqlFullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+        functionContributions.getFunctionRegistry().register(MATCH_AGAINST, new MatchAgainstFunction(doubleType));
+    }
+
+    private static final class MatchAgainstFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+        MatchAgainstFunction(BasicType<Double> doubleType) {
+            super(MATCH_AGAINST, StandardArgumentsValidators.min(2),
+                    StandardFunctionReturnTypeResolvers.invariant(doubleType), null);
+        }
+
+        @Override
+        public void render(SqlAppender sqlAppender, List<? extends SqlAstNode> arguments,
+                           ReturnableType<?> returnType, SqlAstTranslator<?> translator) {
+            sqlAppender.appendSql("match(");
+            for (int i = 0; i < arguments.size() - 1; i++) {
+                if (i > 0) {
+                    sqlAppender.appendSql(", ");
+                }
+                arguments.get(i).accept(translator);
+            }
+            sqlAppender.appendSql(") against (");
+            arguments.get(arguments.size() - 1).accept(translator);
+            sqlAppender.appendSql(" in boolean mode)");
+        }
+    }
+}
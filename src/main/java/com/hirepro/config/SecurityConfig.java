@@ -1,10 +1,19 @@
 package com.hirepro.config;
 
 import com.hirepro.auth.filter.JwtAuthenticationFilter;
+import com.hirepro.auth.security.PermissionMaskEvaluator;
+import com.hirepro.auth.security.RouteAuthorizationTable;
 import com.hirepro.auth.service.UserDetailsServiceImpl;
+import com.hirepro.auth.util.PooledPasswordEncoder;
+import com.hirepro.clients.filter.TenantQuotaFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -14,7 +23,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -31,105 +39,136 @@ public class SecurityConfig {
 
     private final UserDetailsServiceImpl userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final TenantQuotaFilter tenantQuotaFilter;
 
     public SecurityConfig(UserDetailsServiceImpl userDetailsService,
-                          JwtAuthenticationFilter jwtAuthenticationFilter) {
+                          JwtAuthenticationFilter jwtAuthenticationFilter,
+                          TenantQuotaFilter tenantQuotaFilter) {
         this.userDetailsService = userDetailsService;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.tenantQuotaFilter = tenantQuotaFilter;
+    }
+
+    /**
+     * Paths that never need a caller identity. They get their own minimal chain, ahead of the
+     * main one, so they skip JWT parsing and route authorization entirely.
+     */
+    private static final String[] PUBLIC_PATHS = {
+            "/auth/login",
+            "/auth/register",
+            "/auth/refresh-token",
+            "/auth/logout",
+            "/public/**",
+            "/error",
+            "/actuator/health",
+            "/actuator/info",
+            "/v3/api-docs/**",
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/swagger-resources/**",
+            "/webjars/**"
+    };
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain publicSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(PUBLIC_PATHS)
+                .csrf(AbstractHttpConfigurer::disable)
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll());
+
+        return http.build();
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    @Order(2)
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   AuthenticationProvider authenticationProvider) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .authorizeHttpRequests(auth -> auth
-
-                        // ✅ Always permit OPTIONS preflight requests
-                        .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-
-                        // =====================
-                        // PUBLIC ENDPOINTS
-                        // Note: No /api prefix — context-path /api is already applied by server
-                        // =====================
-                        .requestMatchers(
-                                "/auth/login",
-                                "/auth/register",
-                                "/auth/refresh-token",
-                                "/auth/logout",
-                                "/public/**",
-                                "/error"
-                        ).permitAll()
-
-                        // =====================
-                        // SWAGGER / API DOCS
-                        // =====================
-                        .requestMatchers(
-                                "/v3/api-docs/**",
-                                "/swagger-ui/**",
-                                "/swagger-ui.html",
-                                "/swagger-resources/**",
-                                "/webjars/**"
-                        ).permitAll()
-
-                        // =====================
-                        // ACTUATOR
-                        // =====================
-                        .requestMatchers("/actuator/health", "/actuator/info").permitAll()
-                        .requestMatchers("/actuator/**").hasRole("SUPERADMIN")
-
-                        // =====================
-                        // CLIENT MANAGEMENT
-                        // ✅ Removed /api prefix — server context-path is already /api
-                        // =====================
-                        .requestMatchers("/clients/**").hasRole("SUPERADMIN")
-
-                        // =====================
-                        // USER MANAGEMENT
-                        // ✅ Removed /api prefix
-                        // =====================
-                        .requestMatchers(HttpMethod.GET, "/users").hasRole("SUPERADMIN")
-                        .requestMatchers(HttpMethod.POST, "/users").hasAnyRole("SUPERADMIN", "CLIENT_ADMIN")
-                        .requestMatchers(HttpMethod.GET, "/users/client/**").hasAnyRole("SUPERADMIN", "CLIENT_ADMIN")
-                        .requestMatchers(HttpMethod.GET, "/users/{id}").hasAnyRole("SUPERADMIN", "CLIENT_ADMIN")
-                        .requestMatchers(HttpMethod.PUT, "/users/me").authenticated()
-                        .requestMatchers(HttpMethod.PUT, "/users/**").hasAnyRole("SUPERADMIN", "CLIENT_ADMIN")
-                        .requestMatchers(HttpMethod.DELETE, "/users/**").hasAnyRole("SUPERADMIN", "CLIENT_ADMIN")
-
-                        // =====================
-                        // ROLE & PERMISSION
-                        // ✅ Removed /api prefix
-                        // =====================
-                        .requestMatchers("/roles/**").hasRole("SUPERADMIN")
-                        .requestMatchers("/permissions/**").hasRole("SUPERADMIN")
-
-                        // =====================
-                        // REPORTS
-                        // ✅ Removed /api prefix
-                        // =====================
-                        .requestMatchers("/reports/**").hasAnyRole("SUPERADMIN", "CLIENT_ADMIN")
-
-                        // =====================
-                        // DEBUG (remove after testing)
-                        // =====================
-                        .requestMatchers("/debug/**").authenticated()
-
-                        // Any other request must be authenticated
-                        .anyRequest().authenticated()
-                )
-                .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .requestCache(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().access(routeAuthorizationTable()))
+                .authenticationProvider(authenticationProvider)
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(tenantQuotaFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * URL rules for the main chain, compiled into a trie; the first matching rule wins.
+     * Endpoints guarded by {@code @PreAuthorize} permissions (users, clients, roles, permissions,
+     * monitoring) only require authentication here, so the role is not checked twice.
+     * Note: No /api prefix — context-path /api is already applied by server
+     */
+    static RouteAuthorizationTable routeAuthorizationTable() {
+        return RouteAuthorizationTable.builder()
+                // ✅ Always permit OPTIONS preflight requests
+                .permitAll(HttpMethod.OPTIONS, "/**")
+
+                // ACTUATOR (health and info are served by the public chain)
+                .hasAnyRole("/actuator/**", "SUPERADMIN")
+
+                // USER MANAGEMENT, CLIENT MANAGEMENT, ROLE & PERMISSION, MONITORING
+                .authenticated("/users/**", "/clients/**", "/roles/**", "/permissions/**", "/monitoring/**")
+
+                // REPORTS
+                .hasAnyRole("/reports/**", "SUPERADMIN", "CLIENT_ADMIN")
+
+                // DEBUG (remove after testing)
+                .authenticated("/debug/**")
+
+                // Any other request must be authenticated
+                .build();
+    }
+
+    /**
+     * The JWT filter runs inside the main security chain only; without this Boot would also
+     * register it as a plain servlet filter in front of every request, public ones included.
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(
+            JwtAuthenticationFilter filter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * Same as above: the tenant quota needs the authenticated caller, so it only runs in the main chain
+     */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public FilterRegistrationBean<TenantQuotaFilter> tenantQuotaFilterRegistration(TenantQuotaFilter filter) {
+        FilterRegistrationBean<TenantQuotaFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * Routes {@code hasPermission(...)} in {@code @PreAuthorize} to the permission-mask evaluator
+     */
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler(PermissionMaskEvaluator permissionEvaluator) {
+        DefaultMethodSecurityExpressionHandler handler = new DefaultMethodSecurityExpressionHandler();
+        handler.setPermissionEvaluator(permissionEvaluator);
+        return handler;
+    }
+
+    @Bean
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // Rehashes stored passwords with an outdated BCrypt cost on the next successful login
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -138,9 +177,23 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public PooledPasswordEncoder passwordEncoder(
+            @Value("${app.password.calibrate:true}") boolean calibrate,
+            @Value("${app.password.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${app.password.target-hash-millis:100}") long targetHashMillis,
+            @Value("${app.password.min-strength:10}") int minStrength,
+            @Value("${app.password.max-strength:14}") int maxStrength,
+            @Value("${app.password.pool-size:0}") int poolSize,
+            @Value("${app.password.queue-capacity:64}") int queueCapacity,
+            @Value("${app.password.timeout-millis:5000}") long timeoutMillis) {
+
+        int strength = calibrate
+                ? PooledPasswordEncoder.calibrateStrength(targetHashMillis, minStrength, maxStrength)
+                : bcryptStrength;
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        return new PooledPasswordEncoder(strength, threads, queueCapacity, timeoutMillis);
     }
 
     // =========================
@@ -163,7 +216,7 @@ public class SecurityConfig {
                 "Accept",
                 "Origin"
         ));
-        config.setExposedHeaders(List.of("Authorization", "Set-Cookie"));
+        config.setExposedHeaders(List.of("Authorization", "Set-Cookie", "Retry-After"));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         config.setMaxAge(3600L);
 
@@ -0,0 +1,31 @@
+package com.hirepro.roles.controller;
+
+import com.hirepro.common.response.ApiResponse;
+import com.hirepro.roles.dto.PermissionResponse;
+import com.hirepro.roles.service.RoleService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/permissions")
+public class PermissionController {
+
+    private final RoleService roleService;
+
+    public PermissionController(RoleService roleService) {
+        this.roleService = roleService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasPermission(null, 'ROLE_READ')")
+    public ResponseEntity<ApiResponse<List<PermissionResponse>>> getPermissions() {
+        return ResponseEntity.ok(
+                ApiResponse.success("Permissions retrieved successfully", roleService.getPermissions())
+        );
+    }
+}
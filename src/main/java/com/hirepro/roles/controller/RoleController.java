@@ -0,0 +1,54 @@
+package com.hirepro.roles.controller;
+
+import com.hirepro.auth.security.TokenPrincipal;
+import com.hirepro.common.response.ApiResponse;
+import com.hirepro.roles.dto.RoleResponse;
+import com.hirepro.roles.dto.UpdateRolePermissionsRequest;
+import com.hirepro.roles.service.RoleService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/roles")
+public class RoleController {
+
+    private final RoleService roleService;
+
+    public RoleController(RoleService roleService) {
+        this.roleService = roleService;
+    }
+
+    @GetMapping
+    @PreAuthorize("hasPermission(null, 'ROLE_READ')")
+    public ResponseEntity<ApiResponse<List<RoleResponse>>> getRoles() {
+        return ResponseEntity.ok(
+                ApiResponse.success("Roles retrieved successfully", roleService.getRoles())
+        );
+    }
+
+    @GetMapping("/{role}")
+    @PreAuthorize("hasPermission(null, 'ROLE_READ')")
+    public ResponseEntity<ApiResponse<RoleResponse>> getRole(@PathVariable String role) {
+        return ResponseEntity.ok(
+                ApiResponse.success("Role retrieved successfully", roleService.getRole(role))
+        );
+    }
+
+    @PutMapping("/{role}/permissions")
+    @PreAuthorize("hasPermission(null, 'ROLE_MANAGE')")
+    public ResponseEntity<ApiResponse<RoleResponse>> updateRolePermissions(
+            @PathVariable String role,
+            @AuthenticationPrincipal TokenPrincipal principal,
+            @Valid @RequestBody UpdateRolePermissionsRequest request) {
+
+        RoleResponse roleResponse = roleService.updateRolePermissions(role, request, principal.getUserId());
+        return ResponseEntity.ok(
+                ApiResponse.success("Role permissions updated successfully", roleResponse)
+        );
+    }
+}
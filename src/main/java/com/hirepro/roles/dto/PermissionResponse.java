@@ -0,0 +1,32 @@
+package com.hirepro.roles.dto;
+
+public class PermissionResponse {
+
+    private String name;
+    private int bit;
+
+    public PermissionResponse() {
+    }
+
+    public PermissionResponse(String name, int bit) {
+        this.name = name;
+        this.bit = bit;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getBit() {
+        return bit;
+    }
+
+    public void setBit(int bit) {
+        this.bit = bit;
+    }
+}
@@ -0,0 +1,44 @@
+package com.hirepro.roles.dto;
+
+import java.util.List;
+
+public class RoleResponse {
+
+    private String role;
+    private List<String> permissions;
+    private long permissionMask;
+
+    public RoleResponse() {
+    }
+
+    public RoleResponse(String role, List<String> permissions, long permissionMask) {
+        this.role = role;
+        this.permissions = permissions;
+        this.permissionMask = permissionMask;
+    }
+
+    // Getters and Setters
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public List<String> getPermissions() {
+        return permissions;
+    }
+
+    public void setPermissions(List<String> permissions) {
+        this.permissions = permissions;
+    }
+
+    public long getPermissionMask() {
+        return permissionMask;
+    }
+
+    public void setPermissionMask(long permissionMask) {
+        this.permissionMask = permissionMask;
+    }
+}
@@ -0,0 +1,19 @@
+package com.hirepro.roles.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Set;
+
+public class UpdateRolePermissionsRequest {
+
+    @NotNull(message = "Permissions are required")
+    private Set<String> permissions;
+
+    public Set<String> getPermissions() {
+        return permissions;
+    }
+
+    public void setPermissions(Set<String> permissions) {
+        this.permissions = permissions;
+    }
+}
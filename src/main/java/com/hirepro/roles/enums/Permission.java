@@ -0,0 +1,26 @@
+package com.hirepro.roles.enums;
+
+/**
+ * Permissions granted to roles. The ordinal is the bit position in a role's permission mask
+ * (and in the optional {@code pm} token claim), so new permissions must be appended and the
+ * enum can hold at most 64 values.
+ */
+public enum Permission {
+    CLIENT_READ,
+    CLIENT_LIST,
+    CLIENT_CREATE,
+    CLIENT_UPDATE,
+    CLIENT_DELETE,
+    USER_READ,
+    USER_CREATE,
+    USER_UPDATE,
+    USER_DELETE,
+    ROLE_READ,
+    ROLE_MANAGE,
+    REPORT_READ,
+    MONITORING_ACCESS;
+
+    public long mask() {
+        return 1L << ordinal();
+    }
+}
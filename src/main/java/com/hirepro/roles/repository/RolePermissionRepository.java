@@ -0,0 +1,16 @@
+package com.hirepro.roles.repository;
+
+import com.hirepro.roles.entity.RolePermission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RolePermissionRepository extends JpaRepository<RolePermission, Long> {
+
+    @Modifying
+    @Query("DELETE FROM RolePermission rp WHERE rp.role = :role")
+    void deleteByRole(@Param("role") String role);
+}
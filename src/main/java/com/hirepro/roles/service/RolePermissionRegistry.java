@@ -0,0 +1,122 @@
+package com.hirepro.roles.service;
+
+import com.hirepro.roles.enums.Permission;
+import com.hirepro.users.enums.UserRole;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Precomputed permission mask per role, indexed by {@link UserRole} ordinal.
+ * A permission check is one array read and one bitwise AND. Changes build a complete new
+ * table and swap it in atomically, so readers never see a half-applied update.
+ */
+@Component
+public class RolePermissionRegistry {
+
+    private static final UserRole[] ROLES = UserRole.values();
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.of(defaultGrants()));
+
+    public long maskFor(String role) {
+        UserRole userRole = toUserRole(role);
+        return userRole != null ? snapshot.get().masks[userRole.ordinal()] : 0L;
+    }
+
+    public long maskFor(UserRole role) {
+        return snapshot.get().masks[role.ordinal()];
+    }
+
+    /**
+     * Identifies the current table by content, so every instance with the same grants reports the same value
+     */
+    public long getVersion() {
+        return snapshot.get().version;
+    }
+
+    public Map<UserRole, Set<Permission>> grants() {
+        return snapshot.get().grants;
+    }
+
+    public void rebuild(Map<UserRole, Set<Permission>> grants) {
+        snapshot.set(Snapshot.of(grants));
+    }
+
+    /**
+     * Replaces one role's permissions in the current table, leaving other roles as they are now.
+     * Retried against the latest snapshot, so concurrent updates of different roles are all kept.
+     */
+    public void replaceRole(UserRole role, Set<Permission> permissions) {
+        snapshot.updateAndGet(current -> {
+            Map<UserRole, Set<Permission>> grants = new EnumMap<>(UserRole.class);
+            grants.putAll(current.grants);
+            grants.put(role, permissions);
+            return Snapshot.of(grants);
+        });
+    }
+
+    public static UserRole toUserRole(String role) {
+        if (role == null) {
+            return null;
+        }
+        String name = role.startsWith("ROLE_") ? role.substring(5) : role;
+        for (UserRole userRole : ROLES) {
+            if (userRole.name().equals(name)) {
+                return userRole;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Grants seeded into role_permissions when the table is empty; they mirror the role checks
+     * the controllers used before permissions existed
+     */
+    public static Map<UserRole, Set<Permission>> defaultGrants() {
+        Map<UserRole, Set<Permission>> grants = new EnumMap<>(UserRole.class);
+        grants.put(UserRole.SUPERADMIN, EnumSet.allOf(Permission.class));
+        grants.put(UserRole.CLIENT_ADMIN, EnumSet.of(
+                Permission.CLIENT_READ,
+                Permission.USER_READ,
+                Permission.USER_CREATE,
+                Permission.USER_UPDATE,
+                Permission.USER_DELETE,
+                Permission.REPORT_READ
+        ));
+        return grants;
+    }
+
+    private static final class Snapshot {
+        private final long[] masks;
+        private final long version;
+        private final Map<UserRole, Set<Permission>> grants;
+
+        private Snapshot(long[] masks, Map<UserRole, Set<Permission>> grants) {
+            this.masks = masks;
+            this.version = Arrays.hashCode(masks) & 0xffffffffL;
+            this.grants = grants;
+        }
+
+        static Snapshot of(Map<UserRole, Set<Permission>> grants) {
+            long[] masks = new long[ROLES.length];
+            Map<UserRole, Set<Permission>> copy = new EnumMap<>(UserRole.class);
+            for (Map.Entry<UserRole, Set<Permission>> entry : grants.entrySet()) {
+                long mask = 0L;
+                for (Permission permission : entry.getValue()) {
+                    mask |= permission.mask();
+                }
+                masks[entry.getKey().ordinal()] = mask;
+                if (!entry.getValue().isEmpty()) {
+                    copy.put(entry.getKey(), Collections.unmodifiableSet(EnumSet.copyOf(entry.getValue())));
+                }
+            }
+            return new Snapshot(masks, Collections.unmodifiableMap(copy));
+        }
+    }
+}
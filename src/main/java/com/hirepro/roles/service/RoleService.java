@@ -0,0 +1,14 @@
+package com.hirepro.roles.service;
+
+import com.hirepro.roles.dto.PermissionResponse;
+import com.hirepro.roles.dto.RoleResponse;
+import com.hirepro.roles.dto.UpdateRolePermissionsRequest;
+
+import java.util.List;
+
+public interface RoleService {
+    List<RoleResponse> getRoles();
+    RoleResponse getRole(String role);
+    List<PermissionResponse> getPermissions();
+    RoleResponse updateRolePermissions(String role, UpdateRolePermissionsRequest request, String updatedBy);
+}
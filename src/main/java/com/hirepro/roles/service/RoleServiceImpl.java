@@ -0,0 +1,164 @@
+package com.hirepro.roles.service;
+
+import com.hirepro.common.exception.BadRequestException;
+import com.hirepro.common.exception.ResourceNotFoundException;
+import com.hirepro.roles.dto.PermissionResponse;
+import com.hirepro.roles.dto.RoleResponse;
+import com.hirepro.roles.dto.UpdateRolePermissionsRequest;
+import com.hirepro.roles.entity.RolePermission;
+import com.hirepro.roles.enums.Permission;
+import com.hirepro.roles.repository.RolePermissionRepository;
+import com.hirepro.users.enums.UserRole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class RoleServiceImpl implements RoleService {
+
+    private static final Logger log = LoggerFactory.getLogger(RoleServiceImpl.class);
+
+    private final RolePermissionRepository rolePermissionRepository;
+    private final RolePermissionRegistry rolePermissionRegistry;
+
+    public RoleServiceImpl(RolePermissionRepository rolePermissionRepository,
+                           RolePermissionRegistry rolePermissionRegistry) {
+        this.rolePermissionRepository = rolePermissionRepository;
+        this.rolePermissionRegistry = rolePermissionRegistry;
+    }
+
+    @Override
+    public List<RoleResponse> getRoles() {
+        List<RoleResponse> roles = new ArrayList<>();
+        for (UserRole role : UserRole.values()) {
+            roles.add(toResponse(role));
+        }
+        return roles;
+    }
+
+    @Override
+    public RoleResponse getRole(String role) {
+        return toResponse(resolveRole(role));
+    }
+
+    @Override
+    public List<PermissionResponse> getPermissions() {
+        return Arrays.stream(Permission.values())
+                .map(permission -> new PermissionResponse(permission.name(), permission.ordinal()))
+                .toList();
+    }
+
+    /**
+     * Replaces the role's permissions; the in-memory mask of that role is swapped once the change is committed
+     */
+    @Override
+    @Transactional
+    public RoleResponse updateRolePermissions(String role, UpdateRolePermissionsRequest request, String updatedBy) {
+        UserRole userRole = resolveRole(role);
+
+        Set<Permission> permissions = EnumSet.noneOf(Permission.class);
+        for (String name : request.getPermissions()) {
+            try {
+                permissions.add(Permission.valueOf(name));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unknown permission: " + name);
+            }
+        }
+
+        // Keep at least one role able to manage permissions
+        if (userRole == UserRole.SUPERADMIN && !permissions.contains(Permission.ROLE_MANAGE)) {
+            throw new BadRequestException("SUPERADMIN must keep the ROLE_MANAGE permission");
+        }
+
+        rolePermissionRepository.deleteByRole(userRole.name());
+        rolePermissionRepository.saveAll(permissions.stream()
+                .map(permission -> new RolePermission(userRole.name(), permission.name(), updatedBy))
+                .toList());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rolePermissionRegistry.replaceRole(userRole, permissions);
+            }
+        });
+
+        long mask = permissions.stream().mapToLong(Permission::mask).reduce(0L, (a, b) -> a | b);
+        return new RoleResponse(userRole.name(), permissions.stream().map(Permission::name).toList(), mask);
+    }
+
+    /**
+     * Loads grants from role_permissions, seeding the defaults into an empty table.
+     * Runs at startup and periodically so changes made on other instances are picked up.
+     */
+    @Scheduled(fixedDelayString = "${app.permissions.reload-interval-ms:60000}")
+    @Transactional
+    public void reload() {
+        try {
+            List<RolePermission> rows = rolePermissionRepository.findAll();
+            if (rows.isEmpty()) {
+                rows = rolePermissionRepository.saveAll(defaultRows());
+                log.info("Seeded role_permissions with {} default grant(s)", rows.size());
+            }
+
+            Map<UserRole, Set<Permission>> grants = new EnumMap<>(UserRole.class);
+            for (RolePermission row : rows) {
+                UserRole role = RolePermissionRegistry.toUserRole(row.getRole());
+                Permission permission = toPermission(row.getPermission());
+                if (role == null || permission == null) {
+                    log.warn("Ignoring unknown grant {} -> {}", row.getRole(), row.getPermission());
+                    continue;
+                }
+                grants.computeIfAbsent(role, r -> EnumSet.noneOf(Permission.class)).add(permission);
+            }
+
+            if (!grants.equals(rolePermissionRegistry.grants())) {
+                rolePermissionRegistry.rebuild(grants);
+                log.info("Role permission masks rebuilt for {} role(s)", grants.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload role permissions: {}", e.getMessage());
+        }
+    }
+
+    private List<RolePermission> defaultRows() {
+        List<RolePermission> rows = new ArrayList<>();
+        RolePermissionRegistry.defaultGrants().forEach((role, permissions) -> permissions.forEach(
+                permission -> rows.add(new RolePermission(role.name(), permission.name(), null))));
+        return rows;
+    }
+
+    private UserRole resolveRole(String role) {
+        UserRole userRole = RolePermissionRegistry.toUserRole(role);
+        if (userRole == null) {
+            throw new ResourceNotFoundException("Role not found: " + role);
+        }
+        return userRole;
+    }
+
+    private static Permission toPermission(String name) {
+        try {
+            return Permission.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private RoleResponse toResponse(UserRole role) {
+        Set<Permission> permissions = rolePermissionRegistry.grants().getOrDefault(role, Collections.emptySet());
+        return new RoleResponse(role.name(), permissions.stream().map(Permission::name).toList(),
+                rolePermissionRegistry.maskFor(role));
+    }
+}
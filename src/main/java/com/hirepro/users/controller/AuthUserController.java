@@ -1,5 +1,7 @@
 package com.hirepro.users.controller;
 
+import com.hirepro.auth.security.TenantGuard;
+import com.hirepro.auth.security.TokenPrincipal;
 import com.hirepro.common.response.ApiResponse;
 import com.hirepro.users.dto.AuthUserResponse;
 import com.hirepro.users.dto.CreateAuthUserRequest;
@@ -13,8 +15,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -22,20 +23,22 @@ import org.springframework.web.bind.annotation.*;
 public class AuthUserController {
 
     private final AuthUserService authUserService;
+    private final TenantGuard tenantGuard;
 
-    public AuthUserController(AuthUserService authUserService) {
+    public AuthUserController(AuthUserService authUserService, TenantGuard tenantGuard) {
         this.authUserService = authUserService;
+        this.tenantGuard = tenantGuard;
     }
 
     @PostMapping
-    @PreAuthorize("hasAnyRole('SUPERADMIN', 'CLIENT_ADMIN')")
+    @PreAuthorize("hasPermission(null, 'USER_CREATE')")
     public ResponseEntity<ApiResponse<AuthUserResponse>> createUser(
+            @AuthenticationPrincipal TokenPrincipal principal,
             @Valid @RequestBody CreateAuthUserRequest request) {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String createdBy = authentication.getName();
-
-        AuthUserResponse userResponse = authUserService.createUser(request, createdBy);
+        tenantGuard.checkClientAccess(request.getClientId());
+        tenantGuard.checkRoleAssignment(request.getRole());
+        AuthUserResponse userResponse = authUserService.createUser(request, principal.getUserId());
         return new ResponseEntity<>(
                 ApiResponse.success("User created successfully", userResponse),
                 HttpStatus.CREATED
@@ -43,35 +46,36 @@ public class AuthUserController {
     }
 
     @PutMapping("/{userId}")
-    @PreAuthorize("hasAnyRole('SUPERADMIN', 'CLIENT_ADMIN')")
+    @PreAuthorize("hasPermission(null, 'USER_UPDATE')")
     public ResponseEntity<ApiResponse<AuthUserResponse>> updateUser(
             @PathVariable String userId,
+            @AuthenticationPrincipal TokenPrincipal principal,
             @Valid @RequestBody UpdateAuthUserRequest request) {
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String updatedBy = authentication.getName();
-
-        AuthUserResponse userResponse = authUserService.updateUser(userId, request, updatedBy);
+        if (request.getClientId() != null) {
+            tenantGuard.checkClientAccess(request.getClientId());
+        }
+        tenantGuard.checkRoleAssignment(request.getRole());
+        AuthUserResponse userResponse = authUserService.updateUser(userId, request, principal.getUserId());
         return ResponseEntity.ok(
                 ApiResponse.success("User updated successfully", userResponse)
         );
     }
 
     @DeleteMapping("/{userId}")
-    @PreAuthorize("hasAnyRole('SUPERADMIN', 'CLIENT_ADMIN')")
-    public ResponseEntity<ApiResponse<Void>> deleteUser(@PathVariable String userId) {
-
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String deletedBy = authentication.getName();
+    @PreAuthorize("hasPermission(null, 'USER_DELETE')")
+    public ResponseEntity<ApiResponse<Void>> deleteUser(
+            @PathVariable String userId,
+            @AuthenticationPrincipal TokenPrincipal principal) {
 
-        authUserService.deleteUser(userId, deletedBy);
+        authUserService.deleteUser(userId, principal.getUserId());
         return ResponseEntity.ok(
                 ApiResponse.success("User deleted successfully")
         );
     }
 
     @GetMapping("/{userId}")
-    @PreAuthorize("hasAnyRole('SUPERADMIN', 'CLIENT_ADMIN')")
+    @PreAuthorize("hasPermission(null, 'USER_READ')")
     public ResponseEntity<ApiResponse<AuthUserResponse>> getUserById(@PathVariable String userId) {
 
         AuthUserResponse userResponse = authUserService.getUserById(userId);
@@ -81,7 +85,7 @@ public class AuthUserController {
     }
 
     @GetMapping("/email/{email}")
-    @PreAuthorize("hasAnyRole('SUPERADMIN', 'CLIENT_ADMIN')")
+    @PreAuthorize("hasPermission(null, 'USER_READ')")
     public ResponseEntity<ApiResponse<AuthUserResponse>> getUserByEmail(@PathVariable String email) {
 
         AuthUserResponse userResponse = authUserService.getUserByEmail(email);
@@ -91,7 +95,7 @@ public class AuthUserController {
     }
 
     @GetMapping("/client/{clientId}")
-    @PreAuthorize("hasAnyRole('SUPERADMIN', 'CLIENT_ADMIN')")
+    @PreAuthorize("hasPermission(null, 'USER_READ')")
     public ResponseEntity<ApiResponse<Page<AuthUserResponse>>> getUsersByClientId(
             @PathVariable String clientId,
             @RequestParam(defaultValue = "0") int page,
@@ -99,6 +103,7 @@ public class AuthUserController {
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "DESC") String sortDirection) {
 
+        tenantGuard.checkClientAccess(clientId);
         Sort.Direction direction = sortDirection.equalsIgnoreCase("ASC") ?
                 Sort.Direction.ASC : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
@@ -1,6 +1,9 @@
 package com.hirepro.users.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -10,8 +13,15 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "auth_users")
 @EntityListeners(AuditingEntityListener.class)
+@FilterDef(name = AuthUser.TENANT_FILTER, parameters = @ParamDef(name = "clientId", type = String.class))
+@Filter(name = AuthUser.TENANT_FILTER, condition = "client_id = :clientId")
 public class AuthUser {
 
+    /**
+     * Restricts queries to one client's users; enabled by TenantScopedQueryAspect
+     */
+    public static final String TENANT_FILTER = "tenantFilter";
+
     @Id
     @Column(name = "id", length = 26, nullable = false)
     private String id;
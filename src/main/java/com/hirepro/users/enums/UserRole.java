@@ -1,5 +1,8 @@
 package com.hirepro.users.enums;
 
+/**
+ * Ordinals double as role codes in compact access tokens; append new roles at the end.
+ */
 public enum UserRole {
     SUPERADMIN,
     CLIENT_ADMIN,
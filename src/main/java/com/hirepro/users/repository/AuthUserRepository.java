@@ -4,6 +4,7 @@ import com.hirepro.users.entity.AuthUser;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -26,4 +27,8 @@ public interface AuthUserRepository extends JpaRepository<AuthUser, String> {
 
     @Query("SELECT COUNT(u) FROM AuthUser u WHERE u.clientId = :clientId AND u.deletedAt IS NULL")
     long countByClientId(@Param("clientId") String clientId);
+
+    @Modifying
+    @Query("UPDATE AuthUser u SET u.password = :password WHERE u.email = :email AND u.deletedAt IS NULL")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
 }
\ No newline at end of file
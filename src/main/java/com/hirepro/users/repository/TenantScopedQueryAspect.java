@@ -0,0 +1,54 @@
+package com.hirepro.users.repository;
+
+import com.hirepro.auth.security.TenantGuard;
+import com.hirepro.users.entity.AuthUser;
+import jakarta.persistence.EntityManager;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Enables the {@link AuthUser#TENANT_FILTER} for {@link AuthUserRepository} finders and counts
+ * when the caller is tenant-bound, so queries only see users of the caller's client. A caller bound
+ * to {@link TenantGuard#NO_TENANT} sees no users at all.
+ *
+ * <p>The filter is set on the transaction's session, so callers must run inside a transaction
+ * (read-only is enough). It applies to JPQL and criteria queries, not to {@code findById}.
+ * {@code existsByEmail} is deliberately not matched: e-mail uniqueness is global.</p>
+ */
+@Aspect
+@Component
+public class TenantScopedQueryAspect {
+
+    private final TenantGuard tenantGuard;
+    private final EntityManager entityManager;
+
+    public TenantScopedQueryAspect(TenantGuard tenantGuard, EntityManager entityManager) {
+        this.tenantGuard = tenantGuard;
+        this.entityManager = entityManager;
+    }
+
+    @Around("execution(* com.hirepro.users.repository.AuthUserRepository+.find*(..)) || " +
+            "execution(* com.hirepro.users.repository.AuthUserRepository+.count*(..))")
+    public Object scopeToTenant(ProceedingJoinPoint joinPoint) throws Throwable {
+        String tenant = tenantGuard.currentTenant();
+        if (tenant == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        if (session.getEnabledFilter(AuthUser.TENANT_FILTER) != null) {
+            return joinPoint.proceed();
+        }
+
+        session.enableFilter(AuthUser.TENANT_FILTER).setParameter("clientId", tenant);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            session.disableFilter(AuthUser.TENANT_FILTER);
+        }
+    }
+}
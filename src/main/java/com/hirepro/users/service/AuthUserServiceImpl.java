@@ -1,5 +1,8 @@
 package com.hirepro.users.service;
 
+import com.hirepro.auth.security.AccountStatusRegistry;
+import com.hirepro.auth.service.AuthService;
+import com.hirepro.common.admission.TenantAdmission;
 import com.hirepro.common.exception.BadRequestException;
 import com.hirepro.common.exception.ResourceNotFoundException;
 import com.hirepro.common.util.UlidGenerator;
@@ -9,11 +12,14 @@ import com.hirepro.users.dto.UpdateAuthUserRequest;
 import com.hirepro.users.entity.AuthUser;
 import com.hirepro.users.repository.AuthUserRepository;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
@@ -23,17 +29,31 @@ public class AuthUserServiceImpl implements AuthUserService {
     private final AuthUserRepository authUserRepository;
     private final PasswordEncoder passwordEncoder;
     private final ModelMapper modelMapper;
+    private final AuthService authService;
+    private final AccountStatusRegistry accountStatusRegistry;
+    private final UserProfileCache userProfileCache;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthUserServiceImpl(AuthUserRepository authUserRepository,
                                PasswordEncoder passwordEncoder,
-                               ModelMapper modelMapper) {
+                               ModelMapper modelMapper,
+                               AuthService authService,
+                               AccountStatusRegistry accountStatusRegistry,
+                               UserProfileCache userProfileCache,
+                               PlatformTransactionManager transactionManager) {
         this.authUserRepository = authUserRepository;
         this.passwordEncoder = passwordEncoder;
         this.modelMapper = modelMapper;
+        this.authService = authService;
+        this.accountStatusRegistry = accountStatusRegistry;
+        this.userProfileCache = userProfileCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    /**
+     * Not transactional: the password is hashed before the single INSERT so no connection is held during BCrypt.
+     */
     @Override
-    @Transactional
     public AuthUserResponse createUser(CreateAuthUserRequest request, String createdBy) {
 
         // Check if email already exists
@@ -58,13 +78,32 @@ public class AuthUserServiceImpl implements AuthUserService {
             authUser.setEmployeeType(null);
         }
 
-        AuthUser savedUser = authUserRepository.save(authUser);
-        return mapToResponse(savedUser);
+        try {
+            AuthUser savedUser = authUserRepository.save(authUser);
+            accountStatusRegistry.update(savedUser.getId(), savedUser.getStatus(), savedUser.getRole(),
+                    savedUser.getClientId(), false);
+            return mapToResponse(savedUser);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request won the unique email constraint
+            throw new BadRequestException("Email already exists");
+        }
     }
 
+    /**
+     * Not transactional: a new password is hashed first, so the transaction that loads and saves
+     * the user does not hold a connection during BCrypt.
+     */
     @Override
-    @Transactional
     public AuthUserResponse updateUser(String userId, UpdateAuthUserRequest request, String updatedBy) {
+        String encodedPassword = request.getPassword() != null && !request.getPassword().isEmpty()
+                ? passwordEncoder.encode(request.getPassword())
+                : null;
+
+        return transactionTemplate.execute(status -> applyUpdate(userId, request, encodedPassword, updatedBy));
+    }
+
+    private AuthUserResponse applyUpdate(String userId, UpdateAuthUserRequest request, String encodedPassword,
+                                         String updatedBy) {
 
         AuthUser authUser = authUserRepository.findByIdAndNotDeleted(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
@@ -82,15 +121,28 @@ public class AuthUserServiceImpl implements AuthUserService {
                     request.getEmployeeType() != null ? request.getEmployeeType() : authUser.getEmployeeType());
         }
 
-        // Update password if provided
-        if (request.getPassword() != null && !request.getPassword().isEmpty()) {
-            authUser.setPassword(passwordEncoder.encode(request.getPassword()));
+        // Live sessions must end when the password, role or account status changes
+        boolean revokeSessions = encodedPassword != null;
+        if (request.getRole() != null && !request.getRole().equals(authUser.getRole())) {
+            revokeSessions = true;
+        }
+        if (request.getStatus() != null && !"ACTIVE".equals(request.getStatus())) {
+            revokeSessions = true;
         }
 
+        // Mapping copies the raw password from the request, so the stored hash is set afterwards
+        String storedPassword = encodedPassword != null ? encodedPassword : authUser.getPassword();
         modelMapper.map(request, authUser);
+        authUser.setPassword(storedPassword);
         authUser.setUpdatedBy(updatedBy);
 
         AuthUser updatedUser = authUserRepository.save(authUser);
+        accountStatusRegistry.update(userId, updatedUser.getStatus(), updatedUser.getRole(),
+                updatedUser.getClientId(), false);
+        userProfileCache.invalidate(userId);
+        if (revokeSessions) {
+            authService.revokeAllUserTokens(userId);
+        }
         return mapToResponse(updatedUser);
     }
 
@@ -105,9 +157,14 @@ public class AuthUserServiceImpl implements AuthUserService {
         authUser.setUpdatedBy(deletedBy);
 
         authUserRepository.save(authUser);
+        accountStatusRegistry.update(userId, authUser.getStatus(), authUser.getRole(), authUser.getClientId(), true);
+        userProfileCache.invalidate(userId);
+        authService.revokeAllUserTokens(userId);
     }
 
     @Override
+    @TenantAdmission
+    @Transactional(readOnly = true)
     public AuthUserResponse getUserById(String userId) {
 
         AuthUser authUser = authUserRepository.findByIdAndNotDeleted(userId)
@@ -117,6 +174,8 @@ public class AuthUserServiceImpl implements AuthUserService {
     }
 
     @Override
+    @TenantAdmission
+    @Transactional(readOnly = true)
     public AuthUserResponse getUserByEmail(String email) {
 
         AuthUser authUser = authUserRepository.findByEmailAndNotDeleted(email)
@@ -126,6 +185,8 @@ public class AuthUserServiceImpl implements AuthUserService {
     }
 
     @Override
+    @TenantAdmission
+    @Transactional(readOnly = true)
     public Page<AuthUserResponse> getUsersByClientId(String clientId, Pageable pageable) {
 
         return authUserRepository.findByClientIdAndNotDeleted(clientId, pageable)
@@ -0,0 +1,81 @@
+package com.hirepro.users.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind buffer for last-login timestamps.
+ * Logins only record the timestamp in memory (coalesced per user); a scheduled task writes
+ * all pending timestamps in one JDBC batch, and the buffer is flushed again on shutdown.
+ * The UPDATE touches last_login only, so updated_at is left alone.
+ */
+@Component
+public class LastLoginBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(LastLoginBuffer.class);
+
+    private static final String UPDATE_LAST_LOGIN_SQL =
+            "UPDATE auth_users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentHashMap<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public LastLoginBuffer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void record(String userId, LocalDateTime loginTime) {
+        pending.merge(userId, loginTime, (current, update) -> update.isAfter(current) ? update : current);
+    }
+
+    @Scheduled(fixedDelayString = "${app.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<String, LocalDateTime> entry : pending.entrySet()) {
+            // Only remove the value we are writing; a newer login recorded meanwhile stays for the next flush
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                Timestamp timestamp = Timestamp.valueOf(entry.getValue());
+                batch.add(new Object[]{timestamp, entry.getKey(), timestamp});
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, batch);
+            log.debug("Flushed {} last-login update(s)", batch.size());
+        } catch (RuntimeException e) {
+            // Put the timestamps back so they are retried on the next flush
+            for (Object[] row : batch) {
+                record((String) row[1], ((Timestamp) row[0]).toLocalDateTime());
+            }
+            log.warn("Failed to flush {} last-login update(s): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+}
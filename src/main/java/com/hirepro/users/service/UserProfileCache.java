@@ -0,0 +1,73 @@
+package com.hirepro.users.service;
+
+import com.hirepro.users.dto.AuthUserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of user profiles by user id, used to answer {@code /auth/me}.
+ * Entries are evicted when the user is updated or deleted through this instance (after commit)
+ * and expire after {@code app.profile-cache.ttl-ms} to pick up changes made elsewhere.
+ */
+@Component
+public class UserProfileCache {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public UserProfileCache(@Value("${app.profile-cache.ttl-ms:300000}") long ttlMillis,
+                            @Value("${app.profile-cache.max-entries:10000}") int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public AuthUserResponse get(String userId, Function<String, AuthUserResponse> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.profile;
+        }
+
+        AuthUserResponse profile = loader.apply(userId);
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(e -> e.expiresAt <= now);
+        }
+        if (entries.size() < maxEntries) {
+            entries.put(userId, new Entry(profile, now + ttlMillis));
+        }
+        return profile;
+    }
+
+    /**
+     * Evicts the profile; inside a transaction the eviction happens after commit
+     * so a concurrent read cannot re-cache the old row
+     */
+    public void invalidate(String userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(userId);
+                }
+            });
+        } else {
+            entries.remove(userId);
+        }
+    }
+
+    private static final class Entry {
+        private final AuthUserResponse profile;
+        private final long expiresAt;
+
+        Entry(AuthUserResponse profile, long expiresAt) {
+            this.profile = profile;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.hirepro.auth.security;
+
+import com.hirepro.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginRateLimiterTest {
+
+    @Test
+    void failedLoginsDrainTheBucketForThatIpAndUsername() {
+        LoginRateLimiter limiter = new LoginRateLimiter(1000, 1000, 2, 0.001, 1, 16);
+
+        limiter.checkLogin("10.0.0.1", "victim@example.com");
+        limiter.recordLoginFailure("10.0.0.1", "victim@example.com");
+        limiter.checkLogin("10.0.0.1", "Victim@Example.com ");
+        limiter.recordLoginFailure("10.0.0.1", "Victim@Example.com ");
+
+        assertThatThrownBy(() -> limiter.checkLogin("10.0.0.1", "victim@example.com"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .satisfies(e -> assertThat(((TooManyRequestsException) e).getRetryAfterSeconds()).isPositive());
+    }
+
+    @Test
+    void failuresFromOneAddressDoNotLockTheAccountOutElsewhere() {
+        LoginRateLimiter limiter = new LoginRateLimiter(1000, 1000, 2, 0.001, 1, 16);
+        limiter.recordLoginFailure("203.0.113.7", "victim@example.com");
+        limiter.recordLoginFailure("203.0.113.7", "victim@example.com");
+
+        assertThatThrownBy(() -> limiter.checkLogin("203.0.113.7", "victim@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThatCode(() -> limiter.checkLogin("198.51.100.4", "victim@example.com")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void successfulLoginsAreNotCharged() {
+        LoginRateLimiter limiter = new LoginRateLimiter(1000, 1000, 2, 0.001, 1, 16);
+
+        for (int i = 0; i < 10; i++) {
+            assertThatCode(() -> limiter.checkLogin("10.0.0.1", "user@example.com")).doesNotThrowAnyException();
+        }
+        assertThat(limiter.snapshot().get("usernameBuckets")).isEqualTo(0);
+    }
+
+    @Test
+    void sprayingOtherUsernamesDoesNotResetADrainedBucket() {
+        LoginRateLimiter limiter = new LoginRateLimiter(1000, 1000, 2, 0.001, 1, 4);
+        limiter.recordLoginFailure("10.0.0.1", "victim@example.com");
+        limiter.recordLoginFailure("10.0.0.1", "victim@example.com");
+
+        for (int i = 0; i < 50; i++) {
+            limiter.recordLoginFailure("10.0.1." + i, "spray" + i + "@example.com");
+        }
+
+        assertThatThrownBy(() -> limiter.checkLogin("10.0.0.1", "victim@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+        assertThat(limiter.snapshot().get("overflowed")).isNotEqualTo(0L);
+        // Sprayed pairs that landed in the drained overflow bucket are limited too
+        assertThatThrownBy(() -> limiter.checkLogin("10.0.1.49", "spray49@example.com"))
+                .isInstanceOf(TooManyRequestsException.class);
+    }
+
+    @Test
+    void refilledBucketsAreEvictedToMakeRoom() {
+        // Refills within nanoseconds, so every bucket is full again by the next call
+        LoginRateLimiter limiter = new LoginRateLimiter(1000, 6e12, 2, 6e12, 1, 4);
+
+        for (int i = 0; i < 20; i++) {
+            String username = "user" + i + "@example.com";
+            limiter.recordLoginFailure("10.0.0.1", username);
+            assertThatCode(() -> limiter.checkLogin("10.0.0.1", username)).doesNotThrowAnyException();
+        }
+
+        assertThat((Integer) limiter.snapshot().get("usernameBuckets")).isLessThanOrEqualTo(4);
+        assertThat((Long) limiter.snapshot().get("evictions")).isPositive();
+        assertThat(limiter.snapshot().get("overflowed")).isEqualTo(0L);
+    }
+
+    @Test
+    void registrationIsLimitedPerIp() {
+        LoginRateLimiter limiter = new LoginRateLimiter(1, 0.001, 5, 2, 1, 16);
+
+        limiter.checkRegister("10.0.0.1");
+        limiter.checkRegister("10.0.0.2");
+
+        assertThatThrownBy(() -> limiter.checkRegister("10.0.0.1")).isInstanceOf(TooManyRequestsException.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.hirepro.auth.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RouteAuthorizationTableTest {
+
+    private static final Authentication ANONYMOUS = new AnonymousAuthenticationToken(
+            "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS"));
+
+    private final RouteAuthorizationTable table = RouteAuthorizationTable.builder()
+            .permitAll(HttpMethod.OPTIONS, "/**")
+            .hasAnyRole("/actuator/**", "SUPERADMIN")
+            .authenticated("/users/**", "/clients/**")
+            .hasAnyRole("/reports/**", "SUPERADMIN", "CLIENT_ADMIN")
+            .permitAll(HttpMethod.GET, "/clients/{id}/logo")
+            .build();
+
+    @Test
+    void roleRulesApplyToTheWholeSubtree() {
+        assertThat(allows("GET", "/actuator/env", user("SUPERADMIN"))).isTrue();
+        assertThat(allows("GET", "/actuator/env", user("CLIENT_ADMIN"))).isFalse();
+        assertThat(allows("GET", "/actuator", user("CLIENT_ADMIN"))).isFalse();
+        assertThat(allows("GET", "/reports/monthly/2024", user("CLIENT_ADMIN"))).isTrue();
+        assertThat(allows("GET", "/reports/monthly/2024", user("RECRUITER"))).isFalse();
+    }
+
+    @Test
+    void matchesTheDecodedPathRatherThanTheRawUri() {
+        MockHttpServletRequest request = request("GET", "/actuator/env");
+        request.setRequestURI("/api/%61ctuator/env");
+
+        assertThat(table.check(() -> user("CLIENT_ADMIN"), new RequestAuthorizationContext(request)).isGranted())
+                .isFalse();
+
+        MockHttpServletRequest reports = request("GET", "/reports/x");
+        reports.setRequestURI("/api/%72eports/x");
+        assertThat(table.check(() -> user("RECRUITER"), new RequestAuthorizationContext(reports)).isGranted())
+                .isFalse();
+    }
+
+    @Test
+    void usesPathInfoWhenTheServletIsMappedToAPrefix() {
+        MockHttpServletRequest request = request("GET", "");
+        request.setPathInfo("/actuator/env");
+
+        assertThat(table.check(() -> user("CLIENT_ADMIN"), new RequestAuthorizationContext(request)).isGranted())
+                .isFalse();
+    }
+
+    @Test
+    void earlierRuleWinsOverALaterMoreSpecificOne() {
+        // /clients/** is declared before the permitAll for the logo, so the logo still needs a caller
+        assertThat(allows("GET", "/clients/42/logo", ANONYMOUS)).isFalse();
+        assertThat(allows("GET", "/clients/42/logo", user("RECRUITER"))).isTrue();
+    }
+
+    @Test
+    void methodRulesOnlyApplyToTheirMethod() {
+        assertThat(allows("OPTIONS", "/actuator/env", ANONYMOUS)).isTrue();
+        assertThat(allows("GET", "/actuator/env", ANONYMOUS)).isFalse();
+    }
+
+    @Test
+    void unmatchedPathsRequireAuthentication() {
+        assertThat(allows("GET", "/debug/ping", ANONYMOUS)).isFalse();
+        assertThat(allows("GET", "/debug/ping", user("RECRUITER"))).isTrue();
+        assertThat(allows("GET", "/debug/ping", null)).isFalse();
+    }
+
+    @Test
+    void doubleWildcardOnlyAtTheEnd() {
+        assertThatThrownBy(() -> RouteAuthorizationTable.builder().authenticated("/a/**/b"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private boolean allows(String method, String path, Authentication authentication) {
+        return table.check(() -> authentication, new RequestAuthorizationContext(request(method, path))).isGranted();
+    }
+
+    private static MockHttpServletRequest request(String method, String servletPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api" + servletPath);
+        request.setContextPath("/api");
+        request.setServletPath(servletPath);
+        return request;
+    }
+
+    private static Authentication user(String role) {
+        return UsernamePasswordAuthenticationToken.authenticated(
+                "user@example.com", null, AuthorityUtils.createAuthorityList("ROLE_" + role));
+    }
+}
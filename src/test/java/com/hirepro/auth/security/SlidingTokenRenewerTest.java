@@ -0,0 +1,98 @@
+package com.hirepro.auth.security;
+
+import com.hirepro.auth.enums.AccessTokenFormat;
+import com.hirepro.auth.util.JwtKeyRing;
+import com.hirepro.auth.util.JwtUtil;
+import com.hirepro.roles.service.RolePermissionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SlidingTokenRenewerTest {
+
+    private static final long LIFETIME = 900_000L;
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final JwtUtil jwtUtil = jwtUtil();
+    private final AccountStatusRegistry accountStatusRegistry = mock(AccountStatusRegistry.class);
+    private final SlidingTokenRenewer renewer =
+            new SlidingTokenRenewer(jwtUtil, accountStatusRegistry, true, 300_000L, 3_600_000L);
+
+    @BeforeEach
+    void activeAccount() {
+        when(accountStatusRegistry.currentClaims("user-1"))
+                .thenReturn(new AccountStatusRegistry.AccountClaims("RECRUITER", "client-1"));
+    }
+
+    @Test
+    void renewedTokenCarriesTheCurrentRoleAndClient() {
+        when(accountStatusRegistry.currentClaims("user-1"))
+                .thenReturn(new AccountStatusRegistry.AccountClaims("TEAM_LEAD", "client-2"));
+
+        TokenPrincipal renewed = jwtUtil.parseVerifiedToken(renewer.renewIfNeeded(expiringPrincipal("token-a")));
+
+        assertThat(renewed.getRole()).isEqualTo("TEAM_LEAD");
+        assertThat(renewed.getClientId()).isEqualTo("client-2");
+        assertThat(renewer.snapshot()).containsEntry("claimsUpdated", 1L);
+    }
+
+    @Test
+    void accountMissingFromTheSnapshotIsNotRenewed() {
+        when(accountStatusRegistry.currentClaims("user-1")).thenReturn(null);
+
+        assertThat(renewer.renewIfNeeded(expiringPrincipal("token-a"))).isNull();
+    }
+
+    @Test
+    void logoutWithTheRenewedTokenAlsoReturnsItsPredecessor() {
+        TokenPrincipal original = expiringPrincipal("token-a");
+        TokenPrincipal renewed = jwtUtil.parseVerifiedToken(renewer.renewIfNeeded(original));
+
+        Map<String, Long> chain = renewer.removeRenewalChain(renewed.getTokenId());
+
+        assertThat(chain).containsExactly(Map.entry("token-a", original.getExpiresAtMillis()));
+        assertThat(renewer.snapshot()).containsEntry("pendingReplacements", 0);
+    }
+
+    @Test
+    void logoutWithThePredecessorAlsoReturnsTheRenewedToken() {
+        TokenPrincipal original = expiringPrincipal("token-a");
+        TokenPrincipal renewed = jwtUtil.parseVerifiedToken(renewer.renewIfNeeded(original));
+
+        Map<String, Long> chain = renewer.removeRenewalChain("token-a");
+
+        assertThat(chain).containsExactly(Map.entry(renewed.getTokenId(), renewed.getExpiresAtMillis()));
+        assertThat(renewer.snapshot()).containsEntry("pendingReplacements", 0);
+    }
+
+    @Test
+    void unrelatedRenewalsAreKept() {
+        renewer.renewIfNeeded(expiringPrincipal("token-a"));
+        renewer.renewIfNeeded(expiringPrincipal("token-b"));
+
+        assertThat(renewer.removeRenewalChain("token-a")).hasSize(1);
+        assertThat(renewer.snapshot()).containsEntry("pendingReplacements", 1);
+    }
+
+    private static TokenPrincipal expiringPrincipal(String tokenId) {
+        long now = System.currentTimeMillis();
+        return new TokenPrincipal(tokenId, "user-1", "user@example.com", "RECRUITER", "client-1",
+                now - LIFETIME + 60_000L, now - 60_000L, now + 60_000L, 0L, TokenPrincipal.NO_PERMISSION_VERSION);
+    }
+
+    private static JwtUtil jwtUtil() {
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, "primary", "", "HMAC", "signing-key", "", "", "", false);
+        JwtUtil jwtUtil = new JwtUtil(keyRing, mock(RolePermissionRegistry.class));
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", LIFETIME);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", LIFETIME);
+        ReflectionTestUtils.setField(jwtUtil, "issuer", "hirepro-service");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenFormat", AccessTokenFormat.STANDARD);
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,84 @@
+package com.hirepro.auth.security;
+
+import com.hirepro.common.exception.AccessDeniedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TenantGuardTest {
+
+    private final TenantGuard tenantGuard = new TenantGuard();
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void superAdminIsNotTenantBound() {
+        authenticate("SUPERADMIN", null);
+
+        assertThat(tenantGuard.currentTenant()).isNull();
+        assertThatCode(() -> tenantGuard.checkClientAccess("client-2")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void callerIsBoundToTheClientInTheToken() {
+        authenticate("CLIENT_ADMIN", "client-1");
+
+        assertThat(tenantGuard.currentTenant()).isEqualTo("client-1");
+        assertThatCode(() -> tenantGuard.checkClientAccess("client-1")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> tenantGuard.checkClientAccess("client-2")).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> tenantGuard.checkClientAccess(null)).isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void nonSuperAdminWithoutClientIsBoundToNoTenant() {
+        authenticate("CLIENT_ADMIN", null);
+
+        assertThat(tenantGuard.currentTenant()).isEqualTo(TenantGuard.NO_TENANT);
+        assertThat(tenantGuard.isTenantBound()).isTrue();
+        assertThatThrownBy(() -> tenantGuard.checkClientAccess("client-1")).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> tenantGuard.checkClientAccess(null)).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> tenantGuard.checkClientAccess("")).isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void callerCannotGrantARoleAboveTheirOwn() {
+        authenticate("CLIENT_ADMIN", "client-1");
+
+        assertThatThrownBy(() -> tenantGuard.checkRoleAssignment("SUPERADMIN")).isInstanceOf(AccessDeniedException.class);
+        assertThatCode(() -> tenantGuard.checkRoleAssignment("CLIENT_ADMIN")).doesNotThrowAnyException();
+        assertThatCode(() -> tenantGuard.checkRoleAssignment("RECRUITER")).doesNotThrowAnyException();
+        assertThatCode(() -> tenantGuard.checkRoleAssignment(null)).doesNotThrowAnyException();
+
+        authenticate("TEAM_LEAD", "client-1");
+
+        assertThatThrownBy(() -> tenantGuard.checkRoleAssignment("CLIENT_ADMIN")).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> tenantGuard.checkRoleAssignment("SUPERADMIN")).isInstanceOf(AccessDeniedException.class);
+        assertThatCode(() -> tenantGuard.checkRoleAssignment("RECRUITER")).doesNotThrowAnyException();
+
+        authenticate("SUPERADMIN", null);
+
+        assertThatCode(() -> tenantGuard.checkRoleAssignment("SUPERADMIN")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void workWithoutACallerIsNotRestricted() {
+        assertThat(tenantGuard.currentTenant()).isNull();
+        assertThatCode(() -> tenantGuard.checkClientAccess("client-1")).doesNotThrowAnyException();
+    }
+
+    private static void authenticate(String role, String clientId) {
+        TokenPrincipal principal = new TokenPrincipal("jti", "user-1", "user@example.com", role, clientId,
+                0L, 0L, Long.MAX_VALUE, 0L, TokenPrincipal.NO_PERMISSION_VERSION);
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, AuthorityUtils.createAuthorityList("ROLE_" + role)));
+    }
+}
@@ -0,0 +1,111 @@
+package com.hirepro.auth.security;
+
+import com.hirepro.auth.enums.AccessTokenFormat;
+import com.hirepro.auth.util.JwtKeyRing;
+import com.hirepro.auth.util.JwtUtil;
+import com.hirepro.roles.service.RolePermissionRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TokenRevocationListTest {
+
+    private static final long LIFETIME = 900_000L;
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final TokenRevocationList revocationList = new TokenRevocationList(LIFETIME, 8, 4096);
+
+    @Test
+    void revokedTokenIsRejectedAndOthersAreNot() {
+        long expiresAt = System.currentTimeMillis() + LIFETIME;
+        revocationList.revoke("token-a", expiresAt);
+
+        assertThat(revocationList.isRevoked(principal("token-a", "user-1", 0L, expiresAt))).isTrue();
+        assertThat(revocationList.isRevoked(principal("token-b", "user-1", 0L, expiresAt))).isFalse();
+        assertThat(revocationList.size()).isEqualTo(1);
+    }
+
+    @Test
+    void lookupUsesTheBucketOfTheTokenExpiry() {
+        long now = System.currentTimeMillis();
+        revocationList.revoke("token-a", now + 1_000L);
+
+        // Same id in a different expiry bucket is a different token
+        assertThat(revocationList.isRevoked(principal("token-a", "user-1", 0L, now + LIFETIME))).isFalse();
+        assertThat(revocationList.isRevoked(principal("token-a", "user-1", 0L, now + 1_000L))).isTrue();
+    }
+
+    @Test
+    void expiredOrAnonymousRevocationsAreIgnored() {
+        revocationList.revoke("token-a", System.currentTimeMillis() - 1);
+        revocationList.revoke(null, System.currentTimeMillis() + LIFETIME);
+
+        assertThat(revocationList.size()).isZero();
+    }
+
+    @Test
+    void expiryBeyondTheRingGoesToOverflow() {
+        long expiresAt = System.currentTimeMillis() + 10 * LIFETIME;
+        revocationList.revoke("long-lived", expiresAt);
+
+        assertThat(revocationList.isRevoked(principal("long-lived", "user-1", 0L, expiresAt))).isTrue();
+    }
+
+    @Test
+    void userCutoffComparesMilliseconds() {
+        long second = System.currentTimeMillis() / 1000 * 1000;
+        revocationList.revokeAllForUser("user-1", second + 500);
+
+        long expiresAt = second + LIFETIME;
+        assertThat(revocationList.isRevoked(principal("t1", "user-1", second + 499, expiresAt))).isTrue();
+        assertThat(revocationList.isRevoked(principal("t2", "user-1", second + 500, expiresAt))).isFalse();
+        assertThat(revocationList.isRevoked(principal("t3", "user-1", second + 501, expiresAt))).isFalse();
+        assertThat(revocationList.isRevoked(principal("t4", "user-2", second + 499, expiresAt))).isFalse();
+    }
+
+    @Test
+    void laterCutoffWins() {
+        revocationList.revokeAllForUser("user-1", 2_000L);
+        revocationList.revokeAllForUser("user-1", 1_000L);
+
+        assertThat(revocationList.isRevoked(principal("t1", "user-1", 1_500L, System.currentTimeMillis() + LIFETIME)))
+                .isTrue();
+    }
+
+    @Test
+    void tokenIssuedEarlierInTheSameSecondIsRevoked() throws InterruptedException {
+        JwtUtil jwtUtil = jwtUtil();
+        while (System.currentTimeMillis() % 1000 > 900) {
+            Thread.sleep(5);
+        }
+        TokenPrincipal before = jwtUtil.parseVerifiedToken(
+                jwtUtil.generateAccessToken("user-1", "user@example.com", "RECRUITER", "client-1"));
+
+        Thread.sleep(2);
+        revocationList.revokeAllForUser("user-1");
+        Thread.sleep(2);
+
+        TokenPrincipal after = jwtUtil.parseVerifiedToken(
+                jwtUtil.generateAccessToken("user-1", "user@example.com", "RECRUITER", "client-1"));
+        assertThat(after.getIssuedAtMillis() / 1000).isEqualTo(before.getIssuedAtMillis() / 1000);
+        assertThat(revocationList.isRevoked(before)).isTrue();
+        assertThat(revocationList.isRevoked(after)).isFalse();
+    }
+
+    private static JwtUtil jwtUtil() {
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, "primary", "", "HMAC", "signing-key", "", "", "", false);
+        JwtUtil jwtUtil = new JwtUtil(keyRing, mock(RolePermissionRegistry.class));
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", LIFETIME);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", LIFETIME);
+        ReflectionTestUtils.setField(jwtUtil, "issuer", "hirepro-service");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenFormat", AccessTokenFormat.STANDARD);
+        return jwtUtil;
+    }
+
+    private static TokenPrincipal principal(String tokenId, String userId, long issuedAt, long expiresAt) {
+        return new TokenPrincipal(tokenId, userId, userId + "@example.com", "RECRUITER", "client-1",
+                issuedAt, issuedAt, expiresAt, 0L, TokenPrincipal.NO_PERMISSION_VERSION);
+    }
+}
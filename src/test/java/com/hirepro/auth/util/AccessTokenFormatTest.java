@@ -0,0 +1,68 @@
+package com.hirepro.auth.util;
+
+import com.hirepro.auth.enums.AccessTokenFormat;
+import com.hirepro.auth.security.TokenPrincipal;
+import com.hirepro.common.util.UlidGenerator;
+import com.hirepro.roles.service.RolePermissionRegistry;
+import com.hirepro.users.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Encoded size and parse equivalence of the access-token claim profiles;
+ * parse time is measured by AccessTokenFormatBenchmark in the jmh profile
+ */
+class AccessTokenFormatTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final String SAMPLE_EMAIL = "firstname.lastname@example-client.com";
+
+    private final JwtUtil jwtUtil = jwtUtil();
+
+    @Test
+    void compactTokenIsSmallerAndParsesToTheSamePrincipal() {
+        String userId = UlidGenerator.generate();
+        String clientId = UlidGenerator.generate();
+        long authTime = System.currentTimeMillis() / 1000;
+
+        String standard = jwtUtil.generateAccessToken(AccessTokenFormat.STANDARD, userId, SAMPLE_EMAIL,
+                UserRole.SR_RECRUITER.name(), clientId, authTime);
+        String compact = jwtUtil.generateAccessToken(AccessTokenFormat.COMPACT, userId, SAMPLE_EMAIL,
+                UserRole.SR_RECRUITER.name(), clientId, authTime);
+
+        int standardBytes = standard.getBytes(StandardCharsets.US_ASCII).length;
+        int compactBytes = compact.getBytes(StandardCharsets.US_ASCII).length;
+        assertThat(compactBytes).isLessThan(standardBytes * 85 / 100);
+
+        TokenPrincipal fromStandard = jwtUtil.parseVerifiedToken(standard);
+        TokenPrincipal fromCompact = jwtUtil.parseVerifiedToken(compact);
+        assertThat(fromCompact.getUserId()).isEqualTo(fromStandard.getUserId()).isEqualTo(userId);
+        assertThat(fromCompact.getUsername()).isEqualTo(fromStandard.getUsername()).isEqualTo(SAMPLE_EMAIL);
+        assertThat(fromCompact.getRole()).isEqualTo(fromStandard.getRole()).isEqualTo("SR_RECRUITER");
+        assertThat(fromCompact.getClientId()).isEqualTo(fromStandard.getClientId()).isEqualTo(clientId);
+        assertThat(fromCompact.getAuthTimeMillis()).isEqualTo(fromStandard.getAuthTimeMillis());
+    }
+
+    @Test
+    void roleOutsideTheEnumFallsBackToTheStandardProfile() {
+        String token = jwtUtil.generateAccessToken(AccessTokenFormat.COMPACT, "user-1", SAMPLE_EMAIL,
+                "CUSTOM_ROLE", null, System.currentTimeMillis() / 1000);
+
+        assertThat(jwtUtil.parseVerifiedToken(token).getRole()).isEqualTo("CUSTOM_ROLE");
+    }
+
+    private static JwtUtil jwtUtil() {
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, "primary", "", "HMAC", "signing-key", "", "", "", false);
+        JwtUtil jwtUtil = new JwtUtil(keyRing, mock(RolePermissionRegistry.class));
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 900_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 900_000L);
+        ReflectionTestUtils.setField(jwtUtil, "issuer", "hirepro-service");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenFormat", AccessTokenFormat.STANDARD);
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,70 @@
+package com.hirepro.auth.util;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Rotation of the asymmetric signing key pair
+ */
+class JwtKeyRingTest {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    @Test
+    void previousPublicKeyStillVerifiesAndIsPublished() throws Exception {
+        KeyPair oldPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        KeyPair newPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        JwtKeyRing before = eddsaRing("key-1", oldPair, "");
+        String token = Jwts.builder()
+                .header().keyId(before.getActiveKeyId()).and()
+                .subject("user@example.com")
+                .signWith(before.getSigningKey())
+                .compact();
+
+        JwtKeyRing after = eddsaRing("key-2", newPair, "key-1=" + base64(oldPair.getPublic().getEncoded()));
+
+        assertThat(after.getActiveKeyId()).isEqualTo("key-2");
+        assertThat(after.getParser().parseSignedClaims(token).getPayload().getSubject()).isEqualTo("user@example.com");
+        assertThat(after.getPublicJwks()).extracting(jwk -> jwk.get("kid")).containsExactly("key-2", "key-1");
+    }
+
+    @Test
+    void upcomingPublicKeyCanBePublishedBeforeTheSwitch() throws Exception {
+        KeyPair current = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        KeyPairGenerator ecGenerator = KeyPairGenerator.getInstance("EC");
+        ecGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair upcoming = ecGenerator.generateKeyPair();
+
+        JwtKeyRing ring = eddsaRing("key-1", current, "key-2=" + base64(upcoming.getPublic().getEncoded()));
+
+        Map<String, Object> upcomingJwk = ring.getPublicJwks().get(1);
+        assertThat(upcomingJwk).containsEntry("kid", "key-2").containsEntry("alg", "ES256").containsEntry("crv", "P-256");
+    }
+
+    @Test
+    void previousPublicKeyMustNotReuseAKeyId() throws Exception {
+        KeyPair pair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+
+        assertThatThrownBy(() -> eddsaRing("key-1", pair, "primary=" + base64(pair.getPublic().getEncoded())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static JwtKeyRing eddsaRing(String kid, KeyPair pair, String previousPublicKeys) {
+        return new JwtKeyRing(SECRET, "primary", "", "EdDSA", kid,
+                base64(pair.getPrivate().getEncoded()), base64(pair.getPublic().getEncoded()),
+                previousPublicKeys, false);
+    }
+
+    private static String base64(byte[] der) {
+        return Base64.getEncoder().encodeToString(der);
+    }
+}
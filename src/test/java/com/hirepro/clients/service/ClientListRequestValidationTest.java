@@ -0,0 +1,63 @@
+package com.hirepro.clients.service;
+
+import com.hirepro.common.dto.PageRequestDto;
+import jakarta.validation.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.validation.beanvalidation.MethodValidationInterceptor;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The list request is assembled from query parameters, so its constraints are enforced on the service call
+ */
+class ClientListRequestValidationTest {
+
+    private final ClientService clientService = validating(mock(ClientService.class));
+
+    @Test
+    void rejectsPageSizesOutsideTheAllowedRange() {
+        assertThatThrownBy(() -> clientService.getAllClients(request(0, "offset", "exact", "like")))
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("Page size must be at least 1");
+        assertThatThrownBy(() -> clientService.getAllClients(request(1_000_000, "cursor", "exact", "like")))
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("Page size must not exceed 100");
+    }
+
+    @Test
+    void rejectsUnknownModes() {
+        assertThatThrownBy(() -> clientService.getAllClients(request(10, "bogus", "exact", "like")))
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("Pagination must be either offset or cursor");
+        assertThatThrownBy(() -> clientService.getAllClients(request(10, "offset", "sometimes", "like")))
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("Count must be");
+        assertThatThrownBy(() -> clientService.getAllClients(request(10, "offset", "exact", "regex")))
+                .isInstanceOf(ConstraintViolationException.class)
+                .hasMessageContaining("Search mode must be");
+    }
+
+    @Test
+    void acceptsValidRequestsInAnyCase() {
+        assertThatCode(() -> clientService.getAllClients(request(100, "CURSOR", "Cached", "FullText")))
+                .doesNotThrowAnyException();
+    }
+
+    private static PageRequestDto request(int size, String pagination, String count, String searchMode) {
+        PageRequestDto request = new PageRequestDto(0, size, "createdAt", "desc");
+        request.setPagination(pagination);
+        request.setCount(count);
+        request.setSearchMode(searchMode);
+        return request;
+    }
+
+    private static ClientService validating(ClientService target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(ClientService.class);
+        proxyFactory.addAdvice(new MethodValidationInterceptor());
+        return (ClientService) proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,48 @@
+package com.hirepro.clients.service;
+
+import com.hirepro.clients.repository.ClientRepository;
+import com.hirepro.common.dto.PageRequestDto;
+import com.hirepro.common.exception.BadRequestException;
+import com.hirepro.common.pagination.ConcurrentCountExecutor;
+import com.hirepro.common.pagination.PageCountCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Relevance is only defined for full-text search, so every other combination is rejected before querying
+ */
+class ClientRelevanceSortTest {
+
+    private final ClientRepository clientRepository = mock(ClientRepository.class);
+    private final ClientServiceImpl clientService = new ClientServiceImpl(clientRepository, new ModelMapper(),
+            mock(ClientPlanCache.class), new PageCountCache(30000, 1000), mock(EntityManager.class),
+            mock(ConcurrentCountExecutor.class));
+
+    @Test
+    void rejectsRelevanceWithLikeSearch() {
+        assertThatThrownBy(() -> clientService.getAllClients(request("acme", "like")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("searchMode=fulltext");
+        verifyNoInteractions(clientRepository);
+    }
+
+    @Test
+    void rejectsRelevanceWithoutASearchTerm() {
+        assertThatThrownBy(() -> clientService.getAllClients(request(" ", "fulltext")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("requires a search term");
+        verifyNoInteractions(clientRepository);
+    }
+
+    private static PageRequestDto request(String search, String searchMode) {
+        PageRequestDto request = new PageRequestDto(0, 10, "relevance", "desc");
+        request.setSearch(search);
+        request.setSearchMode(searchMode);
+        return request;
+    }
+}
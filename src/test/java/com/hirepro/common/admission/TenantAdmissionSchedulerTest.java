@@ -0,0 +1,124 @@
+package com.hirepro.common.admission;
+
+import com.hirepro.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TenantAdmissionSchedulerTest {
+
+    private final List<Thread> threads = new ArrayList<>();
+    private final List<String> grants = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    void joinThreads() throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.join(5_000);
+        }
+    }
+
+    @Test
+    void freeSlotsAreGrantedImmediately() {
+        TenantAdmissionScheduler scheduler = new TenantAdmissionScheduler(true, 2, 1_000);
+
+        scheduler.acquire("a", 1);
+        scheduler.acquire("b", 1);
+
+        assertThat(scheduler.snapshot()).containsEntry("inUse", 2).containsEntry("queued", 0);
+        scheduler.release();
+        scheduler.release();
+        assertThat(scheduler.snapshot()).containsEntry("inUse", 0);
+    }
+
+    @Test
+    void queuedCallsAreGrantedBySmallestFinishTime() throws InterruptedException {
+        TenantAdmissionScheduler scheduler = new TenantAdmissionScheduler(true, 1, 5_000);
+        scheduler.acquire("holder", 1);
+
+        // a (weight 1) finishes at 1, 2; b (weight 2) at 0.5, 1, 1.5; the tie at 1 goes to the earlier arrival
+        enqueue(scheduler, "a1", "a", 1, 1);
+        enqueue(scheduler, "a2", "a", 1, 2);
+        enqueue(scheduler, "b1", "b", 2, 3);
+        enqueue(scheduler, "b2", "b", 2, 4);
+        enqueue(scheduler, "b3", "b", 2, 5);
+
+        scheduler.release();
+        joinThreads();
+
+        assertThat(grants).containsExactly("b1", "a1", "b2", "b3", "a2");
+    }
+
+    @Test
+    void timedOutCallIsRejectedAndDoesNotChargeItsTenant() throws InterruptedException {
+        TenantAdmissionScheduler scheduler = new TenantAdmissionScheduler(true, 1, 500);
+        scheduler.acquire("holder", 1);
+
+        assertThatThrownBy(() -> scheduler.acquire("a", 1)).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(tenantStats(scheduler, "a")).containsEntry("timedOut", 1L);
+        assertThat(scheduler.snapshot()).containsEntry("queued", 0);
+
+        // Without the rollback a would finish at 2 and b at 1, so b would go first
+        enqueue(scheduler, "a", "a", 1, 1);
+        enqueue(scheduler, "b", "b", 1, 2);
+
+        scheduler.release();
+        joinThreads();
+
+        assertThat(grants).containsExactly("a", "b");
+    }
+
+    @Test
+    void interruptedWaiterLeavesTheQueue() throws InterruptedException {
+        TenantAdmissionScheduler scheduler = new TenantAdmissionScheduler(true, 1, 5_000);
+        scheduler.acquire("holder", 1);
+
+        Thread waiter = new Thread(() -> {
+            try {
+                scheduler.acquire("a", 1);
+            } catch (ServiceUnavailableException e) {
+                grants.add("interrupted");
+            }
+        });
+        waiter.start();
+        awaitQueued(scheduler, 1);
+        waiter.interrupt();
+        waiter.join(5_000);
+
+        assertThat(grants).containsExactly("interrupted");
+        assertThat(scheduler.snapshot()).containsEntry("queued", 0);
+        scheduler.release();
+        assertThat(scheduler.snapshot()).containsEntry("inUse", 0);
+    }
+
+    private void enqueue(TenantAdmissionScheduler scheduler, String name, String tenant, int weight, int queued)
+            throws InterruptedException {
+        Thread thread = new Thread(() -> {
+            scheduler.acquire(tenant, weight);
+            grants.add(name);
+            scheduler.release();
+        });
+        threads.add(thread);
+        thread.start();
+        awaitQueued(scheduler, queued);
+    }
+
+    private static void awaitQueued(TenantAdmissionScheduler scheduler, int queued) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while ((Integer) scheduler.snapshot().get("queued") < queued && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(scheduler.snapshot()).containsEntry("queued", queued);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> tenantStats(TenantAdmissionScheduler scheduler, String tenant) {
+        return (Map<String, Object>) ((Map<String, Object>) scheduler.snapshot().get("tenants")).get(tenant);
+    }
+}
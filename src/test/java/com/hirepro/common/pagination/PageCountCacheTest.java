@@ -0,0 +1,72 @@
+package com.hirepro.common.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageCountCacheTest {
+
+    private static final String TABLE = "clients";
+
+    private final PageCountCache cache = new PageCountCache(60_000, 100);
+
+    @Test
+    void keyIgnoresFilterOrderSearchCaseAndBlankFilters() {
+        Map<String, String> first = new LinkedHashMap<>();
+        first.put("status", "ACTIVE");
+        first.put("regions", " US ");
+        first.put("clientCode", "");
+        Map<String, String> second = new LinkedHashMap<>();
+        second.put("regions", "US");
+        second.put("status", "ACTIVE");
+
+        assertThat(PageCountCache.key(" Acme ", first)).isEqualTo(PageCountCache.key("acme", second));
+        assertThat(PageCountCache.key("acme", second)).isNotEqualTo(PageCountCache.key("acme", Map.of()));
+        assertThat(PageCountCache.key("acme", Map.of("subscriptionId:isnull", "")))
+                .isNotEqualTo(PageCountCache.key("acme", Map.of()));
+    }
+
+    @Test
+    void storesAndServesTotals() {
+        cache.put(TABLE, "k", 42, cache.generation(TABLE));
+
+        assertThat(cache.peek(TABLE, "k")).isEqualTo(42L);
+        assertThat(cache.get(TABLE, "k", () -> 7)).isEqualTo(42L);
+    }
+
+    @Test
+    void totalReadBeforeAWriteIsNotStoredAfterIt() {
+        long generation = cache.generation(TABLE);
+        // a client write commits between the page query and the put
+        cache.invalidate(TABLE);
+
+        cache.put(TABLE, "k", 42, generation);
+
+        assertThat(cache.peek(TABLE, "k")).isNull();
+    }
+
+    @Test
+    void countOverlappingAWriteIsReturnedButNotCached() {
+        long total = cache.refresh(TABLE, "k", () -> {
+            cache.invalidate(TABLE);
+            return 42;
+        });
+
+        assertThat(total).isEqualTo(42);
+        assertThat(cache.peek(TABLE, "k")).isNull();
+    }
+
+    @Test
+    void invalidateDropsEveryTotalOfTheTable() {
+        cache.put(TABLE, "a", 1, cache.generation(TABLE));
+        cache.put("users", "a", 2, cache.generation("users"));
+
+        cache.invalidate(TABLE);
+
+        assertThat(cache.peek(TABLE, "a")).isNull();
+        assertThat(cache.peek("users", "a")).isEqualTo(2L);
+    }
+}
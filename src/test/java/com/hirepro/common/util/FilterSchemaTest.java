@@ -0,0 +1,188 @@
+package com.hirepro.common.util;
+
+import com.hirepro.common.exception.BadRequestException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FilterSchemaTest {
+
+    private static final FilterSchema<Object> SCHEMA = FilterSchema.builder(Object.class)
+            .field("status", String.class, FilterOperator.EQ, FilterOperator.IN)
+            .field("regions", String.class, FilterOperator.EQ)
+            .field("subscriptionPlan", String.class, FilterOperator.EQ)
+            .field("subscriptionId", String.class, FilterOperator.ISNULL, FilterOperator.ISNOTNULL)
+            .field("createdAt", LocalDateTime.class, FilterOperator.GTE)
+            .build();
+
+    private CriteriaBuilder cb;
+    private Root<Object> root;
+    private Path<Object> subscriptionId;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        cb = mock(CriteriaBuilder.class);
+        root = mock(Root.class);
+        subscriptionId = mock(Path.class);
+        when(root.get("subscriptionId")).thenReturn(subscriptionId);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void groupsKeysSharingAPathUnderTheirLogic() {
+        Path<Object> status = mock(Path.class);
+        Path<Object> regions = mock(Path.class);
+        Path<Object> plan = mock(Path.class);
+        when(root.get("status")).thenReturn(status);
+        when(root.get("regions")).thenReturn(regions);
+        when(root.get("subscriptionPlan")).thenReturn(plan);
+
+        Predicate active = mock(Predicate.class);
+        Predicate inUs = mock(Predicate.class);
+        Predicate enterprise = mock(Predicate.class);
+        Predicate either = mock(Predicate.class);
+        Predicate all = mock(Predicate.class);
+        when(cb.equal(status, "ACTIVE")).thenReturn(active);
+        when(cb.equal(regions, "USIT")).thenReturn(inUs);
+        when(cb.equal(plan, "ENTERPRISE")).thenReturn(enterprise);
+        when(cb.or(new Predicate[]{inUs, enterprise})).thenReturn(either);
+        when(cb.and(new Predicate[]{either, active})).thenReturn(all);
+
+        Map<String, String> filters = Map.of(
+                "status", "ACTIVE",
+                "or.r.regions", "USIT",
+                "or.r.subscriptionPlan", "ENTERPRISE");
+
+        // status = ACTIVE AND (regions = USIT OR subscriptionPlan = ENTERPRISE)
+        assertThat(predicate(filters)).isSameAs(all);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void nestedGroupsCombineInsideTheirParent() {
+        Path<Object> regions = mock(Path.class);
+        Path<Object> plan = mock(Path.class);
+        Path<Object> status = mock(Path.class);
+        when(root.get("regions")).thenReturn(regions);
+        when(root.get("subscriptionPlan")).thenReturn(plan);
+        when(root.get("status")).thenReturn(status);
+
+        Predicate inUs = mock(Predicate.class);
+        Predicate enterprise = mock(Predicate.class);
+        Predicate active = mock(Predicate.class);
+        Predicate both = mock(Predicate.class);
+        Predicate either = mock(Predicate.class);
+        Predicate all = mock(Predicate.class);
+        when(cb.equal(regions, "USIT")).thenReturn(inUs);
+        when(cb.equal(plan, "ENTERPRISE")).thenReturn(enterprise);
+        when(cb.equal(status, "ACTIVE")).thenReturn(active);
+        when(cb.and(new Predicate[]{inUs, enterprise})).thenReturn(both);
+        when(cb.or(new Predicate[]{both, active})).thenReturn(either);
+        when(cb.and(either)).thenReturn(all);
+
+        Map<String, String> filters = Map.of(
+                "or.x.and.y.regions", "USIT",
+                "or.x.and.y.subscriptionPlan", "ENTERPRISE",
+                "or.x.status", "ACTIVE");
+
+        // ((regions = USIT AND subscriptionPlan = ENTERPRISE) OR status = ACTIVE)
+        assertThat(predicate(filters)).isSameAs(all);
+    }
+
+    @Test
+    void ignoresBlankValuesForOperatorsThatTakeOne() {
+        assertThat(SCHEMA.toSpecification(Map.of("status", " ", "regions", ""))).isNull();
+    }
+
+    @Test
+    void rejectsUnknownFieldsOperatorsAndValues() {
+        assertThatThrownBy(() -> SCHEMA.toSpecification(Map.of("name", "Acme")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'name' is not supported");
+        assertThatThrownBy(() -> SCHEMA.toSpecification(Map.of("regions:like", "US")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Operator 'like'");
+        assertThatThrownBy(() -> SCHEMA.toSpecification(Map.of("status:between", "A")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> SCHEMA.toSpecification(Map.of("createdAt:gte", "yesterday")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Invalid value");
+    }
+
+    @Test
+    void rejectsMalformedGroupKeys() {
+        assertThatThrownBy(() -> SCHEMA.toSpecification(Map.of("or.status", "ACTIVE")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("needs a name");
+        assertThatThrownBy(() -> SCHEMA.toSpecification(Map.of("xor.g.status", "ACTIVE")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Invalid filter key");
+    }
+
+    @Test
+    void rejectsTooManyTerms() {
+        Map<String, String> filters = new HashMap<>();
+        for (int i = 0; i < 21; i++) {
+            filters.put("or.g" + i + ".status", "ACTIVE");
+        }
+
+        assertThatThrownBy(() -> SCHEMA.toSpecification(filters))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("At most 20");
+    }
+
+    @Test
+    void unaryOperatorWithABlankValueIsKept() {
+        Predicate isNull = mock(Predicate.class);
+        when(cb.isNull(subscriptionId)).thenReturn(isNull);
+        when(cb.and(isNull)).thenReturn(isNull);
+
+        assertThat(predicate(Map.of("subscriptionId:isnull", ""))).isSameAs(isNull);
+    }
+
+    @Test
+    void unaryOperatorFalseNegatesTheTest() {
+        Predicate isNull = mock(Predicate.class);
+        Predicate isNotNull = mock(Predicate.class);
+        when(cb.isNull(subscriptionId)).thenReturn(isNull);
+        when(cb.isNotNull(subscriptionId)).thenReturn(isNotNull);
+        when(cb.and(isNull)).thenReturn(isNull);
+        when(cb.and(isNotNull)).thenReturn(isNotNull);
+
+        assertThat(predicate(Map.of("subscriptionId:isnull", "true"))).isSameAs(isNull);
+        assertThat(predicate(Map.of("subscriptionId:isnull", "false"))).isSameAs(isNotNull);
+        assertThat(predicate(Map.of("subscriptionId:isnotnull", "TRUE"))).isSameAs(isNotNull);
+        assertThat(predicate(Map.of("subscriptionId:isnotnull", "false"))).isSameAs(isNull);
+    }
+
+    @Test
+    void unaryOperatorRejectsOtherValues() {
+        assertThatThrownBy(() -> SCHEMA.toSpecification(Map.of("subscriptionId:isnull", "sub-1")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("takes true or false");
+        verify(cb, never()).isNull(any());
+    }
+
+    private Predicate predicate(Map<String, String> filters) {
+        Specification<Object> spec = SCHEMA.toSpecification(filters);
+        return spec.toPredicate(root, mock(CriteriaQuery.class), cb);
+    }
+}
@@ -0,0 +1,117 @@
+package com.hirepro.common.util;
+
+import com.hirepro.common.exception.BadRequestException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PageCursorTest {
+
+    @Test
+    void roundTripsThroughTheEncodedToken() {
+        String token = new PageCursor("createdAt", "DESC", "01HZX5R0000000000000000000", "2024-05-01T10:15:30.123")
+                .encode();
+
+        PageCursor cursor = PageCursor.decode(token, "createdAt", "desc");
+
+        assertThat(token).doesNotContain("|", "+", "/", "=");
+        assertThat(cursor.getSortBy()).isEqualTo("createdAt");
+        assertThat(cursor.getId()).isEqualTo("01HZX5R0000000000000000000");
+        assertThat(cursor.getValue()).isEqualTo("2024-05-01T10:15:30.123");
+    }
+
+    @Test
+    void valueMayContainTheSeparator() {
+        String token = new PageCursor("name", "ASC", "id-1", "Acme | Partners").encode();
+
+        assertThat(PageCursor.decode(token, "name", "ASC").getValue()).isEqualTo("Acme | Partners");
+    }
+
+    @Test
+    void rejectsACursorIssuedForAnotherSort() {
+        String token = new PageCursor("name", "ASC", "id-1", "Acme").encode();
+
+        assertThatThrownBy(() -> PageCursor.decode(token, "createdAt", "ASC"))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("does not match");
+        assertThatThrownBy(() -> PageCursor.decode(token, "name", "DESC"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        String wrongVersion = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("c0|name|ASC|id-1|Acme".getBytes(StandardCharsets.UTF_8));
+        String tooShort = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("c1|name|ASC".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> PageCursor.decode("not base64!", "name", "ASC"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> PageCursor.decode(wrongVersion, "name", "ASC")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> PageCursor.decode(tooShort, "name", "ASC")).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void seekBreaksTiesOnTheSortValueById() {
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Root<Object> root = mock(Root.class);
+        Path idPath = mock(Path.class);
+        Path createdAt = mock(Path.class);
+        when(root.get("id")).thenReturn(idPath);
+        when(root.get("createdAt")).thenReturn(createdAt);
+        doReturn(LocalDateTime.class).when(createdAt).getJavaType();
+
+        LocalDateTime value = LocalDateTime.parse("2024-05-01T10:15:30");
+        Predicate afterId = mock(Predicate.class);
+        Predicate beyond = mock(Predicate.class);
+        Predicate equal = mock(Predicate.class);
+        Predicate tie = mock(Predicate.class);
+        Predicate seek = mock(Predicate.class);
+        when(cb.lessThan(idPath, "id-5")).thenReturn(afterId);
+        when(cb.lessThan(createdAt, value)).thenReturn(beyond);
+        when(cb.equal(createdAt, value)).thenReturn(equal);
+        when(cb.and(equal, afterId)).thenReturn(tie);
+        when(cb.or(beyond, tie)).thenReturn(seek);
+
+        Predicate predicate = SpecificationBuilder.seekAfter("createdAt", "2024-05-01T10:15:30", "id-5", false)
+                .toPredicate(root, mock(CriteriaQuery.class), cb);
+
+        // createdAt < v OR (createdAt = v AND id < lastId): rows sharing the value are not skipped or repeated
+        assertThat(predicate).isSameAs(seek);
+        verify(cb, never()).greaterThan(any(Path.class), any(Comparable.class));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void seekOnIdAloneNeedsNoTieBreak() {
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Root<Object> root = mock(Root.class);
+        Path idPath = mock(Path.class);
+        Predicate afterId = mock(Predicate.class);
+        when(root.get("id")).thenReturn(idPath);
+        when(cb.greaterThan(idPath, "id-5")).thenReturn(afterId);
+
+        Predicate predicate = SpecificationBuilder.seekAfter("id", "id-5", "id-5", true)
+                .toPredicate(root, mock(CriteriaQuery.class), cb);
+
+        assertThat(predicate).isSameAs(afterId);
+        verify(cb, never()).or(any(Predicate.class), any(Predicate.class));
+    }
+}
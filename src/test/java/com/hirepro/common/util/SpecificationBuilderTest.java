@@ -0,0 +1,25 @@
+package com.hirepro.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpecificationBuilderTest {
+
+    @Test
+    void everyIndexableWordIsARequiredPrefix() {
+        assertThat(SpecificationBuilder.toBooleanModeQuery("acme \"logistics\" +eu")).isEqualTo("+acme* +logistics*");
+    }
+
+    @Test
+    void stopwordsAreOptionalPrefixes() {
+        assertThat(SpecificationBuilder.toBooleanModeQuery("The Bank of Acme")).isEqualTo("The* +Bank* +Acme*");
+        assertThat(SpecificationBuilder.toBooleanModeQuery("for what")).isEqualTo("for* what*");
+    }
+
+    @Test
+    void termWithoutIndexableWordsHasNoQuery() {
+        assertThat(SpecificationBuilder.toBooleanModeQuery("a b")).isNull();
+        assertThat(SpecificationBuilder.toBooleanModeQuery(null)).isNull();
+    }
+}
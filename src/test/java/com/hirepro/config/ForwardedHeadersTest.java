@@ -0,0 +1,50 @@
+package com.hirepro.config;
+
+import org.apache.catalina.Valve;
+import org.apache.catalina.valves.RemoteIpValve;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.embedded.TomcatWebServerFactoryCustomizer;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The login rate limits key on {@code getRemoteAddr()}; behind the proxy that is only the client's
+ * address if application.yaml makes Tomcat read X-Forwarded-For, and only from trusted proxies.
+ */
+class ForwardedHeadersTest {
+
+    @Test
+    void clientAddressIsTakenFromXForwardedForSentByAnInternalProxy() throws IOException {
+        StandardEnvironment environment = new StandardEnvironment();
+        new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yaml"))
+                .forEach(environment.getPropertySources()::addLast);
+        ServerProperties serverProperties = Binder.get(environment).bind("server", ServerProperties.class).get();
+
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
+        new TomcatWebServerFactoryCustomizer(environment, serverProperties).customize(factory);
+
+        RemoteIpValve valve = null;
+        for (Valve engineValve : factory.getEngineValves()) {
+            if (engineValve instanceof RemoteIpValve remoteIpValve) {
+                valve = remoteIpValve;
+            }
+        }
+        assertThat(serverProperties.getForwardHeadersStrategy()).isEqualTo(ServerProperties.ForwardHeadersStrategy.NATIVE);
+        assertThat(valve).isNotNull();
+        assertThat(valve.getRemoteIpHeader()).isEqualToIgnoringCase("X-Forwarded-For");
+
+        // The header is honoured from private-network proxies and ignored from anyone else
+        Pattern internalProxies = Pattern.compile(valve.getInternalProxies());
+        assertThat(internalProxies.matcher("10.0.0.5").matches()).isTrue();
+        assertThat(internalProxies.matcher("203.0.113.7").matches()).isFalse();
+    }
+}
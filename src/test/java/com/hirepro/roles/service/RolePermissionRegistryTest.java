@@ -0,0 +1,33 @@
+package com.hirepro.roles.service;
+
+import com.hirepro.roles.enums.Permission;
+import com.hirepro.users.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RolePermissionRegistryTest {
+
+    private final RolePermissionRegistry registry = new RolePermissionRegistry();
+
+    @Test
+    void replacingOneRoleKeepsConcurrentChangesToOthers() {
+        // Two updates prepared from the same starting table, committed one after the other
+        registry.replaceRole(UserRole.RECRUITER, EnumSet.of(Permission.CLIENT_READ));
+        registry.replaceRole(UserRole.CLIENT_ADMIN, EnumSet.of(Permission.USER_READ));
+
+        assertThat(registry.maskFor(UserRole.RECRUITER)).isEqualTo(Permission.CLIENT_READ.mask());
+        assertThat(registry.maskFor(UserRole.CLIENT_ADMIN)).isEqualTo(Permission.USER_READ.mask());
+        assertThat(registry.grants().get(UserRole.SUPERADMIN)).containsExactlyInAnyOrder(Permission.values());
+    }
+
+    @Test
+    void replacingWithNoPermissionsRevokesTheRole() {
+        registry.replaceRole(UserRole.CLIENT_ADMIN, EnumSet.noneOf(Permission.class));
+
+        assertThat(registry.maskFor("ROLE_CLIENT_ADMIN")).isZero();
+        assertThat(registry.grants()).doesNotContainKey(UserRole.CLIENT_ADMIN);
+    }
+}